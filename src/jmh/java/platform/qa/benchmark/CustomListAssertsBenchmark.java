@@ -0,0 +1,78 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.benchmark;
+
+import platform.qa.asserts.CustomListAsserts;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class CustomListAssertsBenchmark {
+
+    @Param({"1000", "10000"})
+    int size;
+
+    private List<String> names;
+    private List<String> dates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        names = IntStream.range(0, size)
+                .mapToObj(i -> String.format("Назва %06d", i))
+                .collect(Collectors.toCollection(ArrayList::new));
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+        LocalDateTime start = LocalDateTime.of(2022, 1, 1, 0, 0);
+        dates = IntStream.range(0, size)
+                .mapToObj(i -> start.plusMinutes(i).format(formatter))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Benchmark
+    public List<String> assertAlphabeticSorting() {
+        CustomListAsserts.assertAlphabeticSorting(names);
+        return names;
+    }
+
+    @Benchmark
+    public List<String> assertDateSorting() {
+        CustomListAsserts.assertDateSorting(dates);
+        return dates;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Generates benchmark fixtures in a temporary folder.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Path createTempFolder() {
+        try {
+            return Files.createTempDirectory("platform-qa-jmh");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void deleteFolder(Path folder) {
+        try (Stream<Path> files = Files.walk(folder)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates a bpmn-like file where every line holds one of the PLACEHOLDER_FORM_KEY_n placeholders.
+     */
+    static Path createTemplate(Path folder, int lines, int placeholders) {
+        StringBuilder content = new StringBuilder("<bpmn:process id=\"Process_AUTO\" name=\"Benchmark\">\n");
+        for (int i = 0; i < lines; i++) {
+            content.append("  <bpmn:userTask id=\"Activity_").append(i)
+                    .append("\" name=\"Задача ").append(i)
+                    .append("\" camunda:formKey=\"PLACEHOLDER_FORM_KEY_").append(i % placeholders + 1)
+                    .append("\" camunda:assignee=\"${initiator}\" />\n");
+        }
+        content.append("</bpmn:process>\n");
+        return write(folder.resolve("template.bpmn"), content.toString());
+    }
+
+    static Path createCsv(Path folder, int rows) {
+        StringBuilder content = new StringBuilder("name,age,city\n");
+        for (int i = 0; i < rows; i++) {
+            content.append("Особа ").append(i).append(',').append(i % 100).append(",Київ\n");
+        }
+        return write(folder.resolve("people.csv"), content.toString());
+    }
+
+    private static Path write(Path path, String content) {
+        try {
+            return Files.writeString(path, content, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
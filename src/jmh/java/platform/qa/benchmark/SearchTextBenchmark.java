@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.benchmark;
+
+import platform.qa.files.SearchText;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class SearchTextBenchmark {
+
+    private String processLine;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Path folder = Fixtures.createTempFolder();
+        processLine = Files.readAllLines(Fixtures.createTemplate(folder, 1, 1)).get(0);
+        Fixtures.deleteFolder(folder);
+    }
+
+    @Benchmark
+    public String searchProcessId() {
+        return SearchText.searchTextByRegExp(processLine, "(?<=process id=\\\").+?(?=\\\")");
+    }
+
+    @Benchmark
+    public String searchProcessName() {
+        return SearchText.searchTextByRegExp(processLine, "(?<=name=\\\").+?(?=\\\")");
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.benchmark;
+
+import platform.qa.files.TestDataClient;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(3)
+public class TestDataClientBenchmark {
+
+    @Param({"100", "10000"})
+    int lines;
+
+    @Param({"1", "10"})
+    int placeholders;
+
+    private Path folder;
+    private TestDataClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        folder = Fixtures.createTempFolder();
+        Fixtures.createTemplate(folder, lines, placeholders);
+        client = new TestDataClient()
+                .setRootPath(folder.toString())
+                .setFolder("");
+        for (int i = 1; i <= placeholders; i++) {
+            client.setPatternToReplace("PLACEHOLDER_FORM_KEY_" + i, "formKey" + i + "AUTO");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Fixtures.deleteFolder(folder);
+    }
+
+    @Benchmark
+    public List<String> readUpdatedFile() {
+        return client.readUpdatedFile("template.bpmn");
+    }
+}
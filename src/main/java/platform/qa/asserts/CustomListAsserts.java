@@ -17,30 +17,45 @@
 package platform.qa.asserts;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 
+import platform.qa.date.DateConverter;
+
+import java.text.CollationKey;
 import java.text.Collator;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class CustomListAsserts {
 
+    private static final String SIZE_DESCRIPTION =
+            "Поточна кількість значень у обох списках не збігається з очікуваним";
+    private static final String DATE_PATTERN = "dd.MM.yyyy HH:mm";
+    private static final Locale CYRILLIC_LOCALE = new Locale.Builder().setLanguage("ru").setScript("Cyrl").build();
+    private static final ThreadLocal<Collator> COLLATOR =
+            ThreadLocal.withInitial(() -> Collator.getInstance(CYRILLIC_LOCALE));
+
     /**
      * Asserts that list of Cyrillic strings is sorted alphabetically in ASC order.
      *
      * @param list – the list to check
      */
     public static void assertAlphabeticSorting(List<String> list) {
-        List<String> expectedList = new ArrayList<>(list);
-        Locale dLocale = new Locale.Builder().setLanguage("ru").setScript("Cyrl").build();
-        list.sort(Collator.getInstance(dLocale));
-        assertThat(expectedList)
-                .as("Перелік заданих значень не відсортований у алфавітному порядку")
-                .isEqualTo(list);
+        Collator collator = COLLATOR.get();
+        assertAdjacentOrder(list.iterator(), collator::getCollationKey, Comparator.naturalOrder(),
+                "Перелік заданих значень не відсортований у алфавітному порядку");
     }
 
     /**
@@ -49,19 +64,14 @@ public class CustomListAsserts {
      * @param list – the list to check
      */
     public static void assertAlphabeticReverseSorting(List<String> list) {
-        List<String> expectedList = new ArrayList<>(list);
-
-        Locale dLocale = new Locale.Builder().setLanguage("ru").setScript("Cyrl").build();
-        list.sort(Collator.getInstance(dLocale));
-        Collections.reverse(list);
-        assertThat(list)
-                .as("Перелік заданих значень не відсортований у алфавітному спадаючому порядку")
-                .isEqualTo(expectedList);
+        Collator collator = COLLATOR.get();
+        assertAdjacentOrder(list.iterator(), collator::getCollationKey, Comparator.<CollationKey>reverseOrder(),
+                "Перелік заданих значень не відсортований у алфавітному спадаючому порядку");
     }
 
     public static void assertListSize(List expectedList, List actualList) {
         assertThat(actualList.size())
-                .as("Поточна кількість значень у обох списках не збігається з очікуваним")
+                .as(SIZE_DESCRIPTION)
                 .isEqualTo(expectedList.size());
     }
 
@@ -83,14 +93,10 @@ public class CustomListAsserts {
      * порівняння дат відбувається, після приведення до типу "Дата"
      */
     public static void assertDateReverseSorting(List<String> list) {
-        List<String> expectedList = new ArrayList<>(list);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
-        expectedList.sort(Comparator.comparing(s -> LocalDateTime.parse(s, formatter)));
-        Collections.reverse(list);
-
-        assertThat(list)
-                .as("Перелік заданих значень дат не відсортований у спадаючому порядку")
-                .isEqualTo(expectedList);
+        DateTimeFormatter formatter = DateConverter.getFormatter(DATE_PATTERN);
+        assertAdjacentOrder(list.iterator(), s -> LocalDateTime.parse(s, formatter),
+                Comparator.<LocalDateTime>reverseOrder(),
+                "Перелік заданих значень дат не відсортований у спадаючому порядку");
     }
 
     /**
@@ -99,12 +105,213 @@ public class CustomListAsserts {
      * порівняння дат відбувається, після приведення до типу "Дата"
      */
     public static void assertDateSorting(List<String> list) {
-        List<String> expectedList = new ArrayList<>(list);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
-        expectedList.sort(Comparator.comparing(s -> LocalDateTime.parse(s, formatter)));
+        DateTimeFormatter formatter = DateConverter.getFormatter(DATE_PATTERN);
+        assertAdjacentOrder(list.iterator(), s -> LocalDateTime.parse(s, formatter),
+                Comparator.<LocalDateTime>naturalOrder(),
+                "Перелік заданих значень дат не відсортований у зростаючому порядку");
+    }
 
-        assertThat(list)
-                .as("Перелік заданих значень дат не відсортований у зростаючому порядку")
-                .isEqualTo(expectedList);
+    /**
+     * Asserts that Cyrillic strings are sorted alphabetically in ASC order.
+     * Values are consumed one by one and the check stops at the first violation.
+     *
+     * @param values – the values to check, i.e. {@link #pages(Supplier)} of a paginated API
+     */
+    public static void assertAlphabeticSorting(Iterator<String> values) {
+        Collator collator = COLLATOR.get();
+        assertAdjacentOrder(values, collator::getCollationKey, Comparator.naturalOrder(),
+                "Перелік заданих значень не відсортований у алфавітному порядку");
+    }
+
+    public static void assertAlphabeticSorting(Stream<String> values) {
+        try (values) {
+            assertAlphabeticSorting(values.iterator());
+        }
+    }
+
+    /**
+     * Asserts that Cyrillic strings are sorted alphabetically in DESC order.
+     * Values are consumed one by one and the check stops at the first violation.
+     *
+     * @param values – the values to check, i.e. {@link #pages(Supplier)} of a paginated API
+     */
+    public static void assertAlphabeticReverseSorting(Iterator<String> values) {
+        Collator collator = COLLATOR.get();
+        assertAdjacentOrder(values, collator::getCollationKey, Comparator.<CollationKey>reverseOrder(),
+                "Перелік заданих значень не відсортований у алфавітному спадаючому порядку");
+    }
+
+    public static void assertAlphabeticReverseSorting(Stream<String> values) {
+        try (values) {
+            assertAlphabeticReverseSorting(values.iterator());
+        }
+    }
+
+    /**
+     * Asserts that dates in format "16.12.2020 19:36" are sorted in ASC order.
+     * Values are consumed one by one and the check stops at the first violation.
+     *
+     * @param values – the values to check, i.e. {@link #pages(Supplier)} of a paginated API
+     */
+    public static void assertDateSorting(Iterator<String> values) {
+        DateTimeFormatter formatter = DateConverter.getFormatter(DATE_PATTERN);
+        assertAdjacentOrder(values, s -> LocalDateTime.parse(s, formatter), Comparator.<LocalDateTime>naturalOrder(),
+                "Перелік заданих значень дат не відсортований у зростаючому порядку");
+    }
+
+    public static void assertDateSorting(Stream<String> values) {
+        try (values) {
+            assertDateSorting(values.iterator());
+        }
+    }
+
+    /**
+     * Asserts that dates in format "16.12.2020 19:36" are sorted in DESC order.
+     * Values are consumed one by one and the check stops at the first violation.
+     *
+     * @param values – the values to check, i.e. {@link #pages(Supplier)} of a paginated API
+     */
+    public static void assertDateReverseSorting(Iterator<String> values) {
+        DateTimeFormatter formatter = DateConverter.getFormatter(DATE_PATTERN);
+        assertAdjacentOrder(values, s -> LocalDateTime.parse(s, formatter), Comparator.<LocalDateTime>reverseOrder(),
+                "Перелік заданих значень дат не відсортований у спадаючому порядку");
+    }
+
+    public static void assertDateReverseSorting(Stream<String> values) {
+        try (values) {
+            assertDateReverseSorting(values.iterator());
+        }
+    }
+
+    /**
+     * Asserts that values are sorted in natural ASC order, stopping at the first violation.
+     *
+     * @param values – the values to check
+     */
+    public static <T extends Comparable<? super T>> void assertSorting(Iterator<T> values) {
+        assertAdjacentOrder(values, Function.identity(), Comparator.<T>naturalOrder(),
+                "Перелік заданих значень не відсортований у наростаючому порядку");
+    }
+
+    public static <T extends Comparable<? super T>> void assertSorting(Stream<T> values) {
+        try (values) {
+            assertSorting(values.iterator());
+        }
+    }
+
+    /**
+     * Asserts that values are sorted in natural DESC order, stopping at the first violation.
+     *
+     * @param values – the values to check
+     */
+    public static <T extends Comparable<? super T>> void assertReverseSorting(Iterator<T> values) {
+        assertAdjacentOrder(values, Function.identity(), Comparator.<T>reverseOrder(),
+                "Перелік заданих значень не відсортований у спадаючому порядку");
+    }
+
+    public static <T extends Comparable<? super T>> void assertReverseSorting(Stream<T> values) {
+        try (values) {
+            assertReverseSorting(values.iterator());
+        }
+    }
+
+    /**
+     * Asserts the number of values, consuming no more than one value above the expected size.
+     *
+     * @param expectedSize – the expected number of values
+     * @param values       – the values to count
+     */
+    public static void assertSize(long expectedSize, Iterator<?> values) {
+        long size = 0;
+        while (size <= expectedSize && values.hasNext()) {
+            values.next();
+            size++;
+        }
+        assertThat(size)
+                .as(SIZE_DESCRIPTION)
+                .isEqualTo(expectedSize);
+    }
+
+    public static void assertSize(long expectedSize, Stream<?> values) {
+        try (values) {
+            assertSize(expectedSize, values.iterator());
+        }
+    }
+
+    /**
+     * Asserts that values have no duplicates, stopping at the first duplicate.
+     * Unlike sorting checks it keeps every distinct value seen so far.
+     *
+     * @param values – the values to check
+     */
+    public static void assertUniqueness(Iterator<?> values) {
+        Set<Object> seen = new HashSet<>();
+        for (int index = 0; values.hasNext(); index++) {
+            Object current = values.next();
+            if (!seen.add(current)) {
+                fail("Перелік заданих значень містить дублікати: елемент [" + index + "] \"" + current + "\"");
+            }
+        }
+    }
+
+    public static void assertUniqueness(Stream<?> values) {
+        try (values) {
+            assertUniqueness(values.iterator());
+        }
+    }
+
+    /**
+     * Chains pages of a paginated API into a single iterator. The next page is requested only when
+     * the previous one is consumed, so only one page is kept in memory.
+     *
+     * @param nextPage – the supplier of the next page, null or empty page ends the iteration
+     * @return the iterator over values of all pages
+     */
+    public static <T> Iterator<T> pages(Supplier<? extends Collection<? extends T>> nextPage) {
+        return new Iterator<>() {
+            private Iterator<? extends T> page = Collections.emptyIterator();
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                while (!page.hasNext() && !exhausted) {
+                    Collection<? extends T> values = nextPage.get();
+                    exhausted = values == null || values.isEmpty();
+                    page = exhausted ? Collections.emptyIterator() : values.iterator();
+                }
+                return page.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.next();
+            }
+        };
+    }
+
+    /**
+     * Checks every adjacent pair in a single pass, each value is converted to its comparison key only once.
+     * The source is not modified.
+     */
+    private static <E, K> void assertAdjacentOrder(Iterator<E> values, Function<? super E, K> toKey,
+                                                   Comparator<? super K> comparator, String description) {
+        if (!values.hasNext()) {
+            return;
+        }
+        E previous = values.next();
+        K previousKey = toKey.apply(previous);
+        for (int index = 1; values.hasNext(); index++) {
+            E current = values.next();
+            K currentKey = toKey.apply(current);
+            if (comparator.compare(previousKey, currentKey) > 0) {
+                fail(description + ": елемент [" + index + "] \"" + current
+                        + "\" порушує порядок після \"" + previous + "\"");
+            }
+            previous = current;
+            previousKey = currentKey;
+        }
     }
 }
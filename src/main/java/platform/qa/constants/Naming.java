@@ -16,12 +16,13 @@
 
 package platform.qa.constants;
 
-import org.apache.commons.lang3.RandomStringUtils;
-
 public class Naming {
 
+    private static final UniqueKeyGenerator KEYS = UniqueKeyGenerator.getInstance();
+
     public static final String PLACEHOLDER_ID = "PLACEHOLDER_ID";
     public static final String PLACEHOLDER_NAME = "PLACEHOLDER_NAME";
+    public static final String PLACEHOLDER_PATH = "PLACEHOLDER_PATH";
     public static final String PLACEHOLDER_FORM_KEY = "PLACEHOLDER_FORM_KEY";
     public static final String PLACEHOLDER_DMN_KEY = "PLACEHOLDER_DMN_KEY";
 
@@ -32,52 +33,62 @@ public class Naming {
     public static final String autoLCIntPrefix = "AUTO_LC_INT";
 
     /**
-     * Creates a new random definition key for bpmn file.
+     * Creates a new unique definition key for bpmn file.
      * Characters will be chosen from the set of alphanumeric characters.
      *
-     * @return the random string with specific "Process_" prefix and "_AUTO" suffix
+     * @return the unique string with specific "Process_" prefix and "_AUTO" suffix
      */
     public static String getProcessDefinitionKey() {
-        return String.format("Process_%s_AUTO", RandomStringUtils.randomAlphanumeric(5));
+        return "Process_" + KEYS.nextAlphanumeric() + "_AUTO";
     }
 
     /**
-     * Creates a new random definition name for bpmn file.
+     * Creates a new unique definition name for bpmn file.
      * Characters will be chosen from the set of alphanumeric characters.
      *
-     * @return the random string with specific "ProcessName_" prefix and "_AUTO" suffix
+     * @return the unique string with specific "ProcessName_" prefix and "_AUTO" suffix
      */
     public static String getProcessDefinitionName() {
-        return String.format("ProcessName_%s_AUTO", RandomStringUtils.randomAlphanumeric(5));
+        return "ProcessName_" + KEYS.nextAlphanumeric() + "_AUTO";
     }
 
     /**
-     * Creates a new random form key for json file.
-     * Characters will be chosen from the set of alphanumeric characters.
+     * Creates a new unique form key for json file.
+     * Characters will be chosen from the set of alphabetic characters.
      *
-     * @return the random string with specific "AUTO" suffix
+     * @return the unique string with specific "AUTO" suffix
      */
     public static String getFormKey() {
-        return String.format("%sAUTO", RandomStringUtils.randomAlphabetic(10));
+        return KEYS.nextAlphabetic() + "AUTO";
+    }
+
+    /**
+     * Creates a new unique name for a table of the data model.
+     * Characters will be chosen from the set of lowercase alphanumeric characters.
+     *
+     * @return the unique string with specific "auto_" prefix
+     */
+    public static String getTableName() {
+        return "auto_" + KEYS.nextLowercase();
     }
 
     /**
-     * Creates a new random decision definition key for dmn file.
+     * Creates a new unique decision definition key for dmn file.
      * Characters will be chosen from the set of alphanumeric characters.
      *
-     * @return the random string with specific "AUTOValidationRule" prefix
+     * @return the unique string with specific "AUTOValidationRule" prefix
      */
     public static String getDecisionDefinitionKey() {
-        return String.format("AUTOValidationRule%s", RandomStringUtils.randomAlphanumeric(5));
+        return "AUTOValidationRule" + KEYS.nextAlphanumeric();
     }
 
     /**
-     * Creates a new random decision definition name for dmn file.
+     * Creates a new unique decision definition name for dmn file.
      * Characters will be chosen from the set of alphanumeric characters.
      *
-     * @return the random string with specific "ValidationRule_" prefix and "_AUTO" suffix
+     * @return the unique string with specific "ValidationRule_" prefix and "_AUTO" suffix
      */
     public static String getDecisionDefinitionName() {
-        return String.format("ValidationRule_%s_AUTO", RandomStringUtils.randomAlphanumeric(5));
+        return "ValidationRule_" + KEYS.nextAlphanumeric() + "_AUTO";
     }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.constants;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates keys that are unique within a run and across parallel JVM forks.
+ * <p>
+ * Every key is a node prefix followed by a value of the atomic counter, both encoded compactly. The node prefix is
+ * random for every JVM, so keys do not clash with the ones created by previous runs. When forks are started in
+ * parallel, set the {@value #NODE_ID_PROPERTY} system property to a distinct number per fork
+ * (e.g. {@code ${surefire.forkNumber}}) to make the prefixes of different forks distinct for sure. The node id
+ * is encoded into two extra characters, so the random part of the prefix stays the same length. Node ids outside
+ * of [0, {@value #MAX_NODE_ID}) are ignored with a warning and the prefix stays fully random.
+ */
+@Log4j2
+public final class UniqueKeyGenerator {
+
+    public static final String NODE_ID_PROPERTY = "platform.qa.nodeId";
+    public static final int MAX_NODE_ID = 36 * 36;
+
+    private static final char[] ALPHANUMERIC =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final char[] ALPHABETIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final char[] LOWERCASE = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int NODE_LENGTH = 6;
+    private static final int NODE_ID_LENGTH = 2;
+    private static final int COUNTER_LENGTH = 4;
+
+    private static final UniqueKeyGenerator INSTANCE = new UniqueKeyGenerator(System.getProperty(NODE_ID_PROPERTY));
+
+    private final String alphanumericNode;
+    private final String alphabeticNode;
+    private final String lowercaseNode;
+    private final AtomicLong counter = new AtomicLong();
+
+    UniqueKeyGenerator(String nodeIdProperty) {
+        SecureRandom random = new SecureRandom();
+        int nodeId = parseNodeId(nodeIdProperty);
+        this.alphanumericNode = createNode(nodeId, ALPHANUMERIC, random);
+        this.alphabeticNode = createNode(nodeId, ALPHABETIC, random);
+        this.lowercaseNode = createNode(nodeId, LOWERCASE, random);
+    }
+
+    public static UniqueKeyGenerator getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return the next unique key of Latin letters and digits, at least 10 characters long
+     */
+    public String nextAlphanumeric() {
+        return next(alphanumericNode, ALPHANUMERIC);
+    }
+
+    /**
+     * @return the next unique key of Latin letters only, at least 10 characters long
+     */
+    public String nextAlphabetic() {
+        return next(alphabeticNode, ALPHABETIC);
+    }
+
+    /**
+     * @return the next unique key of lowercase Latin letters and digits, at least 10 characters long,
+     * safe for case-insensitive identifiers such as database table names
+     */
+    public String nextLowercase() {
+        return next(lowercaseNode, LOWERCASE);
+    }
+
+    private String next(String node, char[] alphabet) {
+        long value = counter.getAndIncrement();
+        char[] digits = new char[13];
+        int position = digits.length;
+        do {
+            digits[--position] = alphabet[(int) (value % alphabet.length)];
+            value /= alphabet.length;
+        } while (value > 0);
+        while (digits.length - position < COUNTER_LENGTH) {
+            digits[--position] = alphabet[0];
+        }
+        return new StringBuilder(node.length() + digits.length - position)
+                .append(node)
+                .append(digits, position, digits.length - position)
+                .toString();
+    }
+
+    /**
+     * @return the node id, or -1 if it is not set or invalid
+     */
+    private static int parseNodeId(String nodeId) {
+        if (nodeId == null || nodeId.isBlank()) {
+            return -1;
+        }
+        try {
+            int id = Integer.parseInt(nodeId.trim());
+            if (id >= 0 && id < MAX_NODE_ID) {
+                return id;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        log.warn(NODE_ID_PROPERTY + " \"" + nodeId + "\" should be a number in range [0, " + MAX_NODE_ID
+                + "), random node prefix is used instead");
+        return -1;
+    }
+
+    private static String createNode(int nodeId, char[] alphabet, SecureRandom random) {
+        int idLength = nodeId < 0 ? 0 : NODE_ID_LENGTH;
+        char[] node = new char[idLength + NODE_LENGTH];
+        if (nodeId >= 0) {
+            node[0] = alphabet[nodeId / alphabet.length];
+            node[1] = alphabet[nodeId % alphabet.length];
+        }
+        for (int i = idLength; i < node.length; i++) {
+            node[i] = alphabet[random.nextInt(alphabet.length)];
+        }
+        return new String(node);
+    }
+}
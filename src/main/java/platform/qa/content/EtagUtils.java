@@ -1,8 +1,175 @@
 package platform.qa.content;
 
+import platform.qa.files.MappedFiles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
 public class EtagUtils {
 
+    private static final String WEAK_PREFIX = "W/";
+    private static final long MAX_MAPPED_CHUNK = 256L * 1024 * 1024;
+
     public static String getETagFromContent(String content) {
         return "\""+content.hashCode() + "\"";
     }
+
+    /**
+     * Builds the ETag from Murmur3 128-bit hash of the UTF-8 content.
+     *
+     * @param content - the content to hash
+     * @param weak    - true to build the weak validator (W/"...")
+     * @return the quoted ETag
+     */
+    public static String getETag(String content, boolean weak) {
+        return toETag(Hashing.murmur3_128().hashString(content, StandardCharsets.UTF_8).toString(), weak);
+    }
+
+    /**
+     * Builds the ETag from Murmur3 128-bit hash of the remaining bytes, the buffer position is not changed.
+     *
+     * @param buffer - the bytes to hash
+     * @param weak   - true to build the weak validator (W/"...")
+     * @return the quoted ETag
+     */
+    public static String getETag(ByteBuffer buffer, boolean weak) {
+        return toETag(Hashing.murmur3_128().newHasher().putBytes(buffer.duplicate()).hash().toString(), weak);
+    }
+
+    public static String getETag(InputStream content, boolean weak) {
+        return getETag(content, Hashing.murmur3_128(), weak);
+    }
+
+    /**
+     * Builds the ETag by reading the stream to its end, the stream is not closed.
+     *
+     * @param content      - the stream to hash
+     * @param hashFunction - the hash function, i.e. {@link Hashing#sha256()}
+     * @param weak         - true to build the weak validator (W/"...")
+     * @return the quoted ETag
+     */
+    public static String getETag(InputStream content, HashFunction hashFunction, boolean weak) {
+        Hasher hasher = hashFunction.newHasher();
+        try (OutputStream out = Funnels.asOutputStream(hasher)) {
+            ByteStreams.copy(content, out);
+        } catch (IOException e) {
+            throw new RuntimeException("Content was not read!", e);
+        }
+        return toETag(hasher.hash().toString(), weak);
+    }
+
+    public static String getETag(Path file, boolean weak) {
+        return getETag(file, Hashing.murmur3_128(), weak);
+    }
+
+    /**
+     * Builds the ETag of the file content. Large files are hashed through {@link MappedFiles} views
+     * instead of being copied to the heap.
+     *
+     * @param file         - the file to hash
+     * @param hashFunction - the hash function, i.e. {@link Hashing#sha256()}
+     * @param weak         - true to build the weak validator (W/"...")
+     * @return the quoted ETag
+     */
+    public static String getETag(Path file, HashFunction hashFunction, boolean weak) {
+        return toETag(hash(file, hashFunction).toString(), weak);
+    }
+
+    /**
+     * Hashes the file content through {@link MappedFiles} views, so large files are not copied to the heap.
+     *
+     * @param file         - the file to hash
+     * @param hashFunction - the hash function, i.e. {@link Hashing#murmur3_128()}
+     * @return the hash of the file content
+     */
+    public static HashCode hash(Path file, HashFunction hashFunction) {
+        try {
+            long size = Files.size(file);
+            Hasher hasher = hashFunction.newHasher();
+            for (long position = 0; position < size; position += MAX_MAPPED_CHUNK) {
+                hasher.putBytes(MappedFiles.map(file, position, MAX_MAPPED_CHUNK));
+            }
+            return hasher.hash();
+        } catch (IOException e) {
+            throw new RuntimeException("File was not found!: " + file, e);
+        }
+    }
+
+    public static Map<Path, String> getETags(Collection<Path> files, boolean weak) {
+        return getETags(files, Hashing.murmur3_128(), weak, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds ETags of many files in parallel.
+     *
+     * @param files        - the files to hash
+     * @param hashFunction - the hash function, i.e. {@link Hashing#sha256()}
+     * @param weak         - true to build weak validators (W/"...")
+     * @param executor     - the executor to hash files on
+     * @return ETags by file in the order of the given files
+     */
+    public static Map<Path, String> getETags(Collection<Path> files, HashFunction hashFunction, boolean weak,
+                                             Executor executor) {
+        List<CompletableFuture<String>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> getETag(file, hashFunction, weak), executor))
+                .collect(Collectors.toList());
+        Map<Path, String> etags = new LinkedHashMap<>();
+        int index = 0;
+        try {
+            for (Path file : files) {
+                etags.put(file, futures.get(index++).join());
+            }
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        return etags;
+    }
+
+    public static boolean isWeak(String etag) {
+        return etag.startsWith(WEAK_PREFIX);
+    }
+
+    /**
+     * Compares ETags as described by RFC 7232: strong comparison requires both ETags to be strong,
+     * weak comparison ignores the W/ prefix.
+     *
+     * @param first  - the first ETag
+     * @param second - the second ETag
+     * @param weak   - true for weak comparison
+     * @return true if ETags match
+     */
+    public static boolean matches(String first, String second, boolean weak) {
+        if (weak) {
+            return stripWeakPrefix(first).equals(stripWeakPrefix(second));
+        }
+        return !isWeak(first) && !isWeak(second) && first.equals(second);
+    }
+
+    private static String stripWeakPrefix(String etag) {
+        return isWeak(etag) ? etag.substring(WEAK_PREFIX.length()) : etag;
+    }
+
+    private static String toETag(String hash, boolean weak) {
+        return (weak ? WEAK_PREFIX : "") + "\"" + hash + "\"";
+    }
 }
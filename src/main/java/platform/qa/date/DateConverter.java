@@ -22,17 +22,41 @@ import lombok.extern.log4j.Log4j2;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 @Log4j2
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DateConverter {
 
+    private static final int MAX_REPORTED_FAILURES = 10;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_DAY = 86_400 * NANOS_PER_SECOND;
+    private static final LoadingCache<String, DateTimeFormatter> FORMATTERS = CacheBuilder.newBuilder()
+            .maximumSize(256)
+            .build(CacheLoader.from(DateTimeFormatter::ofPattern));
+
     /**
-     * Converts given string to Date due to given pattern.
+     * Converts given string to Date due to given pattern. The string is parsed leniently by
+     * {@link SimpleDateFormat}, use {@link #parseDateTimeStrict(String, String)} for strict parsing.
      *
      * @param dateTimeStr - the string with date to convert (i.e. "2022-07-05T08:52:11.635Z")
-     * @param pattern     - the pattern describing the date and time format
+     * @param pattern     - the pattern describing the date and time format, see {@link SimpleDateFormat}
      * @return formatted Date
      */
     public static Date convertDateTimeByPattern(String dateTimeStr, String pattern) {
@@ -43,7 +67,7 @@ public final class DateConverter {
     /**
      * Converts current date to Date due to given pattern.
      *
-     * @param pattern - the pattern describing the date and time format
+     * @param pattern - the pattern describing the date and time format, see {@link SimpleDateFormat}
      * @return formatted current Date
      */
     public static Date convertCurrentDateTimeByPattern(String pattern) {
@@ -60,4 +84,177 @@ public final class DateConverter {
         }
         return date;
     }
+
+    /**
+     * Returns the thread-safe formatter of the pattern from the shared bounded cache.
+     *
+     * @param pattern - the pattern describing the date and time format, see {@link DateTimeFormatter}
+     * @return {@link DateTimeFormatter}
+     */
+    public static DateTimeFormatter getFormatter(String pattern) {
+        try {
+            return FORMATTERS.getUnchecked(pattern);
+        } catch (UncheckedExecutionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Parses given string due to given pattern. The current date and time is returned when the string
+     * could not be parsed, the same way as {@link #convertDateTimeByPattern(String, String)} does, though
+     * the string is parsed strictly by {@link DateTimeFormatter}.
+     *
+     * @param dateTimeStr - the string with date to parse (i.e. "2022-07-05T08:52:11.635Z")
+     * @param pattern     - the pattern describing the date and time format, see {@link DateTimeFormatter}
+     * @return parsed LocalDateTime, start of the day for patterns without time
+     */
+    public static LocalDateTime parseDateTime(String dateTimeStr, String pattern) {
+        try {
+            return parseDateTimeStrict(dateTimeStr, pattern);
+        } catch (DateTimeParseException e) {
+            log.error("Date " + dateTimeStr + " was not parsed!");
+            return LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Parses given string due to given pattern. Zoned values are converted to the system time zone.
+     *
+     * @param dateTimeStr - the string with date to parse (i.e. "2022-07-05T08:52:11.635Z")
+     * @param pattern     - the pattern describing the date and time format, see {@link DateTimeFormatter}
+     * @return parsed LocalDateTime, start of the day for patterns without time
+     * @throws DateTimeParseException if the string could not be parsed
+     */
+    public static LocalDateTime parseDateTimeStrict(String dateTimeStr, String pattern) {
+        TemporalAccessor parsed = getFormatter(pattern)
+                .parseBest(dateTimeStr, ZonedDateTime::from, LocalDateTime::from, LocalDate::from);
+        if (parsed instanceof ZonedDateTime) {
+            return ((ZonedDateTime) parsed).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        }
+        if (parsed instanceof LocalDate) {
+            return ((LocalDate) parsed).atStartOfDay();
+        }
+        return (LocalDateTime) parsed;
+    }
+
+    /**
+     * Parses all given strings due to given pattern.
+     *
+     * @param dateTimeStrs - the list of strings with dates to parse
+     * @param pattern      - the pattern describing the date and time format, see {@link DateTimeFormatter}
+     * @param strict       - true to fail on strings that could not be parsed, false to replace them with
+     *                     the current date and time
+     * @return the list of parsed dates in the same order
+     * @throws IllegalArgumentException in strict mode, listing the strings that could not be parsed
+     */
+    public static List<LocalDateTime> parseDateTimes(List<String> dateTimeStrs, String pattern, boolean strict) {
+        if (!strict) {
+            return dateTimeStrs.stream()
+                    .map(dateTimeStr -> parseDateTime(dateTimeStr, pattern))
+                    .collect(Collectors.toList());
+        }
+        List<LocalDateTime> dates = new ArrayList<>(dateTimeStrs.size());
+        List<String> failures = new ArrayList<>();
+        int failureCount = 0;
+        for (int i = 0; i < dateTimeStrs.size(); i++) {
+            try {
+                dates.add(parseDateTimeStrict(dateTimeStrs.get(i), pattern));
+            } catch (DateTimeParseException e) {
+                if (failureCount++ < MAX_REPORTED_FAILURES) {
+                    failures.add("[" + i + "] \"" + dateTimeStrs.get(i) + "\"");
+                }
+            }
+        }
+        if (failureCount > 0) {
+            throw new IllegalArgumentException(failureCount + " of " + dateTimeStrs.size()
+                    + " dates were not parsed by pattern \"" + pattern + "\": " + String.join(", ", failures)
+                    + (failureCount > MAX_REPORTED_FAILURES ? ", ..." : ""));
+        }
+        return dates;
+    }
+
+    /**
+     * Lazily parses given strings due to given pattern.
+     *
+     * @param dateTimeStrs - the stream of strings with dates to parse
+     * @param pattern      - the pattern describing the date and time format, see {@link DateTimeFormatter}
+     * @param strict       - true to fail on the first string that could not be parsed, false to replace such
+     *                     strings with the current date and time
+     * @return the stream of parsed dates
+     * @throws IllegalArgumentException in strict mode, when the stream reaches a string that could not be parsed
+     */
+    public static Stream<LocalDateTime> parseDateTimes(Stream<String> dateTimeStrs, String pattern, boolean strict) {
+        if (!strict) {
+            return dateTimeStrs.map(dateTimeStr -> parseDateTime(dateTimeStr, pattern));
+        }
+        return dateTimeStrs.map(dateTimeStr -> {
+            try {
+                return parseDateTimeStrict(dateTimeStr, pattern);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Date \"" + dateTimeStr + "\" was not parsed by pattern \""
+                        + pattern + "\"", e);
+            }
+        });
+    }
+
+    /**
+     * Returns the current date and time truncated to the precision of given pattern, i.e. to minutes for
+     * "dd.MM.yyyy HH:mm" and to the start of the day for patterns without time.
+     *
+     * @param pattern - the pattern describing the date and time format, see {@link DateTimeFormatter}
+     * @return the current LocalDateTime
+     */
+    public static LocalDateTime getCurrentDateTime(String pattern) {
+        LocalDateTime now = LocalDateTime.now();
+        long nanoOfDay = now.toLocalTime().toNanoOfDay();
+        return now.with(LocalTime.ofNanoOfDay(nanoOfDay - nanoOfDay % getResolutionNanos(pattern)));
+    }
+
+    /**
+     * @return the smallest time unit of the pattern in nanoseconds, one day for patterns without time
+     */
+    private static long getResolutionNanos(String pattern) {
+        long resolution = NANOS_PER_DAY;
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char letter = pattern.charAt(i);
+            if (letter == '\'') {
+                quoted = !quoted;
+                continue;
+            }
+            if (quoted) {
+                continue;
+            }
+            int count = 1;
+            while (i + 1 < pattern.length() && pattern.charAt(i + 1) == letter) {
+                count++;
+                i++;
+            }
+            resolution = Math.min(resolution, getResolutionNanos(letter, count));
+        }
+        return resolution;
+    }
+
+    private static long getResolutionNanos(char letter, int count) {
+        switch (letter) {
+            case 'H':
+            case 'h':
+            case 'k':
+            case 'K':
+                return 3600 * NANOS_PER_SECOND;
+            case 'm':
+                return 60 * NANOS_PER_SECOND;
+            case 's':
+                return NANOS_PER_SECOND;
+            case 'S':
+                return (long) Math.pow(10, Math.max(0, 9 - count));
+            case 'A':
+                return 1_000_000L;
+            case 'n':
+            case 'N':
+                return 1L;
+            default:
+                return NANOS_PER_DAY;
+        }
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Reads process metadata from bpmn files with a streaming XML parser, without loading the whole file.
+ * <p>
+ * Like the regular expression search it replaces, the reader is tolerant to files that are not well-formed,
+ * e.g. truncated or templated ones: processes found before the malformed part are returned.
+ */
+@Log4j2
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BpmnMetadataReader {
+
+    public static final String BPMN_NAMESPACE = "http://www.omg.org/spec/BPMN/20100524/MODEL";
+
+    static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    /**
+     * Reads the first process of the bpmn file. Parsing stops right after the process element.
+     *
+     * @param bpmnFile - the path of bpmn file
+     * @return {@link BpmnProcess}, or empty when the file has no process before its malformed part
+     */
+    public static Optional<BpmnProcess> readFirstProcess(Path bpmnFile) {
+        List<BpmnProcess> processes = readProcesses(bpmnFile, 1);
+        return processes.stream().findFirst();
+    }
+
+    /**
+     * Reads all processes of the bpmn file, e.g. a collaboration with several participants.
+     *
+     * @param bpmnFile - the path of bpmn file
+     * @return the list of {@link BpmnProcess} in order of appearance, up to the malformed part of the file
+     */
+    public static List<BpmnProcess> readProcesses(Path bpmnFile) {
+        return readProcesses(bpmnFile, Integer.MAX_VALUE);
+    }
+
+    private static List<BpmnProcess> readProcesses(Path bpmnFile, int limit) {
+        List<BpmnProcess> processes = new ArrayList<>();
+        try (InputStream input = Files.newInputStream(bpmnFile)) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(input);
+            try {
+                while (processes.size() < limit && reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && isProcess(reader)) {
+                        processes.add(new BpmnProcess(
+                                StringUtils.defaultString(reader.getAttributeValue(null, "id")),
+                                StringUtils.defaultString(reader.getAttributeValue(null, "name")),
+                                Boolean.parseBoolean(reader.getAttributeValue(null, "isExecutable"))));
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            log.warn("File " + bpmnFile + " is not well-formed, " + processes.size()
+                    + " processes were read before: " + e.getMessage());
+        } catch (IOException e) {
+            throw new RuntimeException("File was not found!: " + bpmnFile, e);
+        }
+        return processes;
+    }
+
+    private static boolean isProcess(XMLStreamReader reader) {
+        return "process".equals(reader.getLocalName()) && BPMN_NAMESPACE.equals(reader.getNamespaceURI());
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
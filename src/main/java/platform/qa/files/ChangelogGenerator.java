@@ -0,0 +1,252 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import platform.qa.constants.Naming;
+import platform.qa.metrics.Metrics;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.commons.io.FilenameUtils;
+
+/**
+ * Generates large Liquibase changelogs from a parametrised changeset template.
+ * <p>
+ * The template is either a fragment with one or more {@code <changeSet>} elements or a complete changelog,
+ * in which case its {@code <databaseChangeLog>} element is reused for generated files. Placeholders are set
+ * the same way as in {@link TestDataClient}: "any" is replaced with a new unique table name
+ * ({@link Naming#getTableName()}) in every changeset, and {@value #PLACEHOLDER_INDEX} with the changeset number.
+ * Changesets are rendered one by one straight into files, which are written in parallel when rolled.
+ */
+public class ChangelogGenerator {
+
+    public static final String PLACEHOLDER_INDEX = "PLACEHOLDER_CHANGESET_INDEX";
+
+    private static final String CHANGELOG_START = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<databaseChangeLog xmlns=\"http://www.liquibase.org/xml/ns/dbchangelog\"\n"
+            + "                   xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n"
+            + "                   xsi:schemaLocation=\"http://www.liquibase.org/xml/ns/dbchangelog "
+            + "http://www.liquibase.org/xml/ns/dbchangelog/dbchangelog-4.2.xsd\">\n";
+    private static final String CHANGELOG_END = "</databaseChangeLog>\n";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private String rootPath = "src/test/resources/data/";
+    private String folder = "files";
+    private String template;
+    private final Map<String, String> toReplace = new LinkedHashMap<>();
+    private long changeSetCount = 1;
+    private long changeSetsPerFile = 0;
+    private String outputFolder = "target";
+    private String outputFile = "main-liquibase.xml";
+    private boolean masterChangelog = false;
+
+    public ChangelogGenerator setRootPath(String rootPath) {
+        this.rootPath = rootPath;
+        return this;
+    }
+
+    public ChangelogGenerator setFolder(String folder) {
+        this.folder = folder;
+        return this;
+    }
+
+    /**
+     * @param template - the string with the name of changeset template file in the folder
+     * @return {@link ChangelogGenerator}
+     */
+    public ChangelogGenerator setTemplate(String template) {
+        this.template = template;
+        return this;
+    }
+
+    public ChangelogGenerator setPatternToReplace(String textPattern, String replaceWith) {
+        toReplace.put(textPattern, replaceWith);
+        return this;
+    }
+
+    /**
+     * @param changeSetCount - the number of times the template is rendered
+     * @return {@link ChangelogGenerator}
+     */
+    public ChangelogGenerator setChangeSetCount(long changeSetCount) {
+        if (changeSetCount < 0) {
+            throw new IllegalArgumentException("Changeset count should not be negative: " + changeSetCount);
+        }
+        this.changeSetCount = changeSetCount;
+        return this;
+    }
+
+    /**
+     * Rolls the output to numbered files ("main-liquibase-00001.xml") of at most the given number
+     * of rendered templates. Zero means a single file.
+     *
+     * @param changeSetsPerFile - the maximum number of rendered templates in a single file
+     * @return {@link ChangelogGenerator}
+     */
+    public ChangelogGenerator setChangeSetsPerFile(long changeSetsPerFile) {
+        this.changeSetsPerFile = changeSetsPerFile;
+        return this;
+    }
+
+    public ChangelogGenerator setOutputFolder(String outputFolder) {
+        this.outputFolder = outputFolder;
+        return this;
+    }
+
+    public ChangelogGenerator setOutputFile(String outputFile) {
+        this.outputFile = outputFile;
+        return this;
+    }
+
+    /**
+     * Writes the output file as a master changelog including all rolled files in order.
+     *
+     * @param masterChangelog - true to write the master changelog, it requires rolling to be enabled
+     * @return {@link ChangelogGenerator}
+     */
+    public ChangelogGenerator setMasterChangelog(boolean masterChangelog) {
+        this.masterChangelog = masterChangelog;
+        return this;
+    }
+
+    public List<File> generate() {
+        return generate(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Generates changelog files, rolled files are written in parallel on the given executor.
+     *
+     * @param executor - the executor to write files on
+     * @return the list of written files in order, the master changelog is the last one
+     */
+    public List<File> generate(Executor executor) {
+        if (template == null) {
+            throw new IllegalStateException("Changeset template is not set!");
+        }
+        boolean rolling = changeSetsPerFile > 0;
+        if (masterChangelog && !rolling) {
+            throw new IllegalStateException("Master changelog requires rolling to be enabled!");
+        }
+        String content;
+        Path templatePath = Path.of(rootPath + folder, FilenameUtils.getName(template));
+        try {
+            content = Files.readString(templatePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("File was not found!: ", e);
+        }
+        if (Metrics.isEnabled()) {
+            Metrics.increment(Metrics.BYTES_READ, templatePath.toString(), templatePath.toFile().length());
+        }
+        String start = CHANGELOG_START;
+        String end = CHANGELOG_END;
+        int changelogStart = content.indexOf("<databaseChangeLog");
+        if (changelogStart >= 0) {
+            int bodyStart = content.indexOf('>', changelogStart) + 1;
+            int bodyEnd = content.lastIndexOf("</databaseChangeLog>");
+            if (bodyStart == 0 || content.charAt(bodyStart - 2) == '/' || bodyEnd < bodyStart) {
+                throw new IllegalArgumentException("Changelog template should have <databaseChangeLog> element with "
+                        + "changesets closed by </databaseChangeLog>: " + templatePath);
+            }
+            start = content.substring(0, bodyStart) + "\n";
+            end = content.substring(bodyEnd);
+            content = content.substring(bodyStart, bodyEnd);
+        }
+        List<String> placeholders = new ArrayList<>(toReplace.keySet());
+        placeholders.add(PLACEHOLDER_INDEX);
+        CompiledTemplate changeSet = CompiledTemplate.compile(content, placeholders);
+
+        Path output = Path.of(outputFolder);
+        try {
+            Files.createDirectories(output);
+        } catch (IOException e) {
+            throw new RuntimeException("Folder was not created!", e);
+        }
+        long fileCount = rolling ? Math.max(1, (changeSetCount + changeSetsPerFile - 1) / changeSetsPerFile) : 1;
+        List<CompletableFuture<File>> files = new ArrayList<>();
+        for (long part = 0; part < fileCount; part++) {
+            Path file = output.resolve(rolling ? getPartFileName(part + 1) : outputFile);
+            long from = rolling ? part * changeSetsPerFile : 0;
+            long to = rolling ? Math.min(changeSetCount, from + changeSetsPerFile) : changeSetCount;
+            String fileStart = start;
+            String fileEnd = end;
+            files.add(CompletableFuture.supplyAsync(
+                    () -> writeChangelog(file, fileStart, fileEnd, changeSet, from, to), executor));
+        }
+        List<File> written = new ArrayList<>(TemplateFiles.joinAll(files));
+        if (masterChangelog) {
+            written.add(writeMasterChangelog(output.resolve(outputFile), written));
+        }
+        return written;
+    }
+
+    private File writeChangelog(Path file, String start, String end, CompiledTemplate changeSet,
+                                long from, long to) {
+        Map<String, String> values = new LinkedHashMap<>(toReplace);
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            writer.write(start);
+            for (long index = from; index < to; index++) {
+                toReplace.forEach((key, value) -> {
+                    if (TemplateFiles.isRandom(value)) {
+                        values.put(key, Naming.getTableName());
+                    }
+                });
+                values.put(PLACEHOLDER_INDEX, String.valueOf(index + 1));
+                writer.write(changeSet.render(values));
+            }
+            writer.write(end);
+        } catch (IOException e) {
+            throw new RuntimeException("File was not created!", e);
+        }
+        if (Metrics.isEnabled()) {
+            Metrics.increment(Metrics.BYTES_WRITTEN, file.toString(), file.toFile().length());
+        }
+        return file.toFile();
+    }
+
+    private File writeMasterChangelog(Path file, List<File> includes) {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(CHANGELOG_START);
+            for (File include : includes) {
+                writer.write("    <include file=\"" + include.getName() + "\" relativeToChangelogFile=\"true\"/>\n");
+            }
+            writer.write(CHANGELOG_END);
+        } catch (IOException e) {
+            throw new RuntimeException("File was not created!", e);
+        }
+        return file.toFile();
+    }
+
+    private String getPartFileName(long part) {
+        String extension = FilenameUtils.getExtension(outputFile);
+        return String.format("%s-%05d%s", FilenameUtils.removeExtension(outputFile), part,
+                extension.isEmpty() ? "" : "." + extension);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import platform.qa.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Template content pre-parsed into literal segments and placeholder slots.
+ * <p>
+ * Rendering only concatenates the segments with the current placeholder values, so the same template can be
+ * rendered many times, from many threads, without scanning its text again.
+ */
+public final class CompiledTemplate {
+
+    private final String[] segments;
+    private final String[] slots;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] segments, String[] slots) {
+        this.segments = segments;
+        this.slots = slots;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Splits the content into literal segments and slots of the given placeholders.
+     *
+     * @param content      - the template content
+     * @param placeholders - the literal placeholders to look for
+     * @return {@link CompiledTemplate}
+     */
+    public static CompiledTemplate compile(String content, Collection<String> placeholders) {
+        List<String> segments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        if (!placeholders.isEmpty()) {
+            Map<String, String> keys = new LinkedHashMap<>();
+            placeholders.forEach(placeholder -> keys.put(placeholder, placeholder));
+            int[] copied = {0};
+            PlaceholderReplacer.literal(keys).scan(content, (start, end, placeholder) -> {
+                segments.add(content.substring(copied[0], start));
+                slots.add(placeholder);
+                copied[0] = end;
+            });
+            segments.add(content.substring(copied[0]));
+        } else {
+            segments.add(content);
+        }
+        return new CompiledTemplate(segments.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    /**
+     * @return the number of placeholder slots in the template
+     */
+    public int getSlotCount() {
+        return slots.length;
+    }
+
+    /**
+     * Renders the template. Placeholders missing in the values are kept as is.
+     *
+     * @param values - the map of placeholder to its value
+     * @return rendered content
+     */
+    public String render(Map<String, String> values) {
+        String[] resolved = resolve(values);
+        int length = literalLength;
+        for (String value : resolved) {
+            length += value.length();
+        }
+        StringBuilder out = new StringBuilder(length);
+        for (int i = 0; i < slots.length; i++) {
+            out.append(segments[i]).append(resolved[i]);
+        }
+        return out.append(segments[slots.length]).toString();
+    }
+
+    /**
+     * Renders the template line by line, without building the whole content first. Lines are split
+     * the same way as {@link String#lines()} does.
+     *
+     * @param values - the map of placeholder to its value
+     * @return the list of rendered lines
+     */
+    public List<String> renderLines(Map<String, String> values) {
+        String[] resolved = resolve(values);
+        LineSplitter splitter = new LineSplitter();
+        for (int i = 0; i < slots.length; i++) {
+            splitter.append(segments[i]);
+            splitter.append(resolved[i]);
+        }
+        splitter.append(segments[slots.length]);
+        return splitter.finish();
+    }
+
+    private String[] resolve(Map<String, String> values) {
+        boolean counting = Metrics.isEnabled();
+        String[] resolved = new String[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            resolved[i] = values.getOrDefault(slots[i], slots[i]);
+            if (counting && values.containsKey(slots[i])) {
+                Metrics.increment(Metrics.SUBSTITUTIONS, slots[i], 1);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Collects lines of the text appended piece by piece, "\r\n" split between two pieces is a single separator.
+     */
+    private static final class LineSplitter {
+        private final List<String> lines = new ArrayList<>();
+        private final StringBuilder line = new StringBuilder();
+        private boolean afterCarriageReturn;
+
+        void append(String piece) {
+            int start = 0;
+            for (int i = 0; i < piece.length(); i++) {
+                char c = piece.charAt(i);
+                if (c != '\n' && c != '\r') {
+                    afterCarriageReturn = false;
+                    continue;
+                }
+                if (c == '\r' || !afterCarriageReturn) {
+                    lines.add(line.append(piece, start, i).toString());
+                    line.setLength(0);
+                }
+                start = i + 1;
+                afterCarriageReturn = c == '\r';
+            }
+            line.append(piece, start, piece.length());
+        }
+
+        List<String> finish() {
+            if (line.length() > 0) {
+                lines.add(line.toString());
+            }
+            return lines;
+        }
+    }
+}
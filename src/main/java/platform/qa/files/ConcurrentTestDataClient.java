@@ -0,0 +1,326 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.Getter;
+
+import platform.qa.metrics.Metrics;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.RandomStringUtils;
+
+/**
+ * Immutable and thread-safe counterpart of {@link TestDataClient}.
+ * <p>
+ * Placeholders are fixed when the client is built, so a single instance can be shared between tests
+ * running in parallel. Placeholders without random values are compiled only once.
+ */
+public final class ConcurrentTestDataClient {
+    @Getter
+    private final String rootPath;
+    @Getter
+    private final String folder;
+    @Getter
+    private final Map<String, String> toReplace;
+    private final boolean regexReplacement;
+    private final boolean streaming;
+    private final TemplateCache templateCache;
+    private final boolean incremental;
+    private final PlaceholderReplacer replacer;
+    private final RewriteSettings settings;
+
+    @Getter
+    private final ConcurrentMap<String, String> ids = new ConcurrentHashMap<>();
+
+    @Getter
+    private final ConcurrentMap<String, String> paths = new ConcurrentHashMap<>();
+
+    private ConcurrentTestDataClient(Builder builder) {
+        this.rootPath = builder.rootPath;
+        this.folder = builder.folder;
+        this.toReplace = Collections.unmodifiableMap(new LinkedHashMap<>(builder.toReplace));
+        this.regexReplacement = builder.regexReplacement;
+        this.streaming = builder.streaming;
+        this.templateCache = builder.templateCache;
+        this.incremental = builder.incremental;
+        this.replacer = toReplace.isEmpty() || toReplace.values().stream().anyMatch(TemplateFiles::isRandom)
+                ? null
+                : TemplateFiles.compile(toReplace, regexReplacement);
+        this.settings = RewriteSettings.builder()
+                .regexReplacement(regexReplacement)
+                .streaming(streaming)
+                .templateCache(templateCache)
+                .incremental(incremental)
+                .randomValues(replacer == null && !toReplace.isEmpty())
+                .replacer(replacer)
+                .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the builder prefilled with the settings of this client
+     */
+    public Builder toBuilder() {
+        return new Builder()
+                .rootPath(rootPath)
+                .folder(folder)
+                .patternsToReplace(toReplace)
+                .regexReplacement(regexReplacement)
+                .streaming(streaming)
+                .templateCache(templateCache)
+                .incremental(incremental);
+    }
+
+    public List<String> readUpdatedFile(String fileName) {
+        return readLines(getSourcePath(fileName), resolveValues(fileName));
+    }
+
+    public String updateFile(String fileName) {
+        return rewriteFile(getSourcePath(fileName), fileName, randomOutputFile(fileName), false).getOutputFile();
+    }
+
+    public String updateFile(String fileName, String outputFile) {
+        rewriteFile(getSourcePath(fileName), fileName, outputFile, true);
+        return outputFile;
+    }
+
+    /**
+     * Updates the file and describes the result, its content is read from the output file only on demand.
+     *
+     * @param fileName   - the string with the name of template file
+     * @param outputFile - the string with the name of file to create in the target folder
+     * @return {@link FileUpdateResult} with all placeholder values of the file
+     */
+    public FileUpdateResult updateFileWithResult(String fileName, String outputFile) {
+        return rewriteFile(getSourcePath(fileName), fileName, outputFile, true);
+    }
+
+    public CompletableFuture<FileUpdateResult> updateFileAsync(String fileName) {
+        return updateFileAsync(fileName, FileExecutors.getDefault());
+    }
+
+    /**
+     * Updates the file on the given executor, writing it to the target folder with a random prefix.
+     *
+     * @param fileName - the string with the name of template file
+     * @param executor - the executor to update the file on
+     * @return the future {@link FileUpdateResult}
+     */
+    public CompletableFuture<FileUpdateResult> updateFileAsync(String fileName, Executor executor) {
+        return CompletableFuture.supplyAsync(() ->
+                rewriteFile(getSourcePath(fileName), fileName, randomOutputFile(fileName), false), executor);
+    }
+
+    public CompletableFuture<FileUpdateResult> updateFileAsync(String fileName, String outputFile) {
+        return updateFileAsync(fileName, outputFile, FileExecutors.getDefault());
+    }
+
+    /**
+     * Updates the file on the given executor, i.e. to prepare the next file while the previous one is deployed.
+     *
+     * @param fileName   - the string with the name of template file
+     * @param outputFile - the string with the name of file to create in the target folder
+     * @param executor   - the executor to update the file on
+     * @return the future {@link FileUpdateResult}
+     */
+    public CompletableFuture<FileUpdateResult> updateFileAsync(String fileName, String outputFile, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> updateFileWithResult(fileName, outputFile), executor);
+    }
+
+    /**
+     * Updates all files of the directory in parallel on the common fork-join pool.
+     *
+     * @param directory - the string with the directory name relative to the folder
+     * @param recursive - true to process files of nested directories as well
+     * @return the list of results ordered by source file path
+     */
+    public List<FileUpdateResult> updateFilesInParallel(String directory, boolean recursive) {
+        return updateFilesInParallel(directory, recursive, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Updates all files of the directory in parallel on the given executor.
+     *
+     * @param directory - the string with the directory name relative to the folder
+     * @param recursive - true to process files of nested directories as well
+     * @param executor  - the executor to process files on
+     * @return the list of results ordered by source file path
+     */
+    public List<FileUpdateResult> updateFilesInParallel(String directory, boolean recursive, Executor executor) {
+        Path directoryPath = Path.of(rootPath + folder, directory);
+        return TemplateFiles.joinAll(TemplateFiles.listFiles(directoryPath, recursive).stream()
+                .map(source -> CompletableFuture.supplyAsync(() -> {
+                    String fileName = directoryPath.relativize(source).toString().replace(File.separatorChar, '/');
+                    String outputFile = TemplateFiles.createOutputFile(Path.of("target"),
+                            source.getFileName().toString());
+                    return rewriteFile(source, fileName, outputFile, false);
+                }, executor))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * @param stableName - false when the output file name is random, so the output is never reused
+     */
+    private FileUpdateResult rewriteFile(Path source, String fileName, String outputFile, boolean stableName) {
+        long start = Metrics.startTimer();
+        try {
+            Path target = Path.of("target", FilenameUtils.getName(outputFile));
+            Map<String, String> values = resolveValues(fileName);
+            TemplateFiles.rewrite(source, target, values, stableName ? settings : settings.withIncremental(false),
+                    false);
+            return new FileUpdateResult(fileName, outputFile, values, target);
+        } finally {
+            Metrics.recordSince(Metrics.FILE_REWRITE_TIME, fileName, start);
+        }
+    }
+
+    private List<String> readLines(Path source, Map<String, String> values) {
+        if (templateCache == null) {
+            return TemplateFiles.readLines(source, settings.compile(values));
+        }
+        return TemplateFiles.readLines(source, values, regexReplacement, templateCache);
+    }
+
+    private static String randomOutputFile(String fileName) {
+        return RandomStringUtils.randomAlphabetic(5).concat(fileName);
+    }
+
+    private Path getSourcePath(String name) {
+        return TemplateFiles.getSourcePath(rootPath, folder, name);
+    }
+
+    private Map<String, String> resolveValues(String fileName) {
+        if (toReplace.isEmpty()) {
+            return null;
+        }
+        Map<String, String> values = replacer == null ? TemplateFiles.resolveValues(toReplace) : toReplace;
+        String lastValue = values.values().stream().reduce((first, second) -> second).orElseThrow();
+        ids.put(fileName, lastValue);
+        paths.put(fileName, lastValue);
+        return values;
+    }
+
+    /**
+     * Builder of {@link ConcurrentTestDataClient} with the same placeholder helpers as {@link TestDataClient}.
+     */
+    public static final class Builder {
+        private String rootPath = "src/test/resources/data/";
+        private String folder = "files";
+        private final Map<String, String> toReplace = new LinkedHashMap<>();
+        private boolean regexReplacement = false;
+        private boolean streaming = false;
+        private TemplateCache templateCache;
+        private boolean incremental = false;
+
+        private Builder() {
+        }
+
+        public Builder rootPath(String rootPath) {
+            this.rootPath = rootPath;
+            return this;
+        }
+
+        public Builder folder(String folder) {
+            this.folder = folder;
+            return this;
+        }
+
+        public Builder patternToReplace(String textPattern, String replaceWith) {
+            toReplace.put(textPattern, replaceWith);
+            return this;
+        }
+
+        public Builder patternsToReplace(Map<String, String> patterns) {
+            toReplace.putAll(patterns);
+            return this;
+        }
+
+        public Builder id(String id) {
+            return patternToReplace("PLACEHOLDER_ID", id);
+        }
+
+        public Builder name(String name) {
+            return patternToReplace("PLACEHOLDER_NAME", name);
+        }
+
+        public Builder path(String path) {
+            return patternToReplace("PLACEHOLDER_PATH", path);
+        }
+
+        public Builder formKey(String key) {
+            return patternToReplace("PLACEHOLDER_FORM_KEY", key);
+        }
+
+        public Builder formKeys(List<String> keys) {
+            if (keys.size() == 1) {
+                return formKey(keys.get(0));
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                patternToReplace("PLACEHOLDER_FORM_KEY_" + (i + 1), keys.get(i));
+            }
+            return this;
+        }
+
+        public Builder dmnKey(String key) {
+            return patternToReplace("PLACEHOLDER_DMN_KEY", key);
+        }
+
+        public Builder regexReplacement(boolean regexReplacement) {
+            this.regexReplacement = regexReplacement;
+            return this;
+        }
+
+        public Builder streaming(boolean streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
+        public Builder templateCache(TemplateCache templateCache) {
+            this.templateCache = templateCache;
+            return this;
+        }
+
+        /**
+         * Reuses output files of previous runs when neither the template nor the replacement values have
+         * changed, see {@link TestDataClient#setIncremental(boolean)}. Ignored when random values are set and
+         * by methods generating a random output file name.
+         */
+        public Builder incremental(boolean incremental) {
+            this.incremental = incremental;
+            return this;
+        }
+
+        public ConcurrentTestDataClient build() {
+            return new ConcurrentTestDataClient(this);
+        }
+    }
+}
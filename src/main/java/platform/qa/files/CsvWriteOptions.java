@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options of writing csv files with {@link FileUtils#writeCsvFile}.
+ */
+@Value
+@Builder
+public class CsvWriteOptions {
+    public static final CsvWriteOptions DEFAULT = CsvWriteOptions.builder().build();
+
+    @Builder.Default
+    char separator = ',';
+    /**
+     * Compresses written files with gzip, ".gz" is appended to their names.
+     */
+    boolean gzip;
+    /**
+     * The maximum number of rows in a single file, the output is rolled to a new numbered file when it is
+     * reached. Zero means no rolling.
+     */
+    long rowsPerFile;
+    @Builder.Default
+    int bufferSize = 256 * 1024;
+}
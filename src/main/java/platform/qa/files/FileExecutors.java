@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holder of the executor running asynchronous file operations of {@link TestDataClient},
+ * {@link ConcurrentTestDataClient} and {@link FileUtils}.
+ * <p>
+ * These operations mostly block on disk I/O, so by default they run on a shared cached pool of daemon threads
+ * instead of the common fork-join pool, which is sized for CPU-bound tasks.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FileExecutors {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private static volatile Executor defaultExecutor;
+
+    /**
+     * @return the executor set with {@link #setDefault(Executor)}, or the shared cached pool created on first use
+     */
+    public static Executor getDefault() {
+        Executor executor = defaultExecutor;
+        if (executor == null) {
+            synchronized (FileExecutors.class) {
+                executor = defaultExecutor;
+                if (executor == null) {
+                    executor = newIoPool();
+                    defaultExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Replaces the default executor, i.e. with a bounded pool limiting the number of files processed at once.
+     * The previous executor is not shut down.
+     *
+     * @param executor - the executor to run asynchronous file operations on, or null to restore the shared pool
+     */
+    public static void setDefault(Executor executor) {
+        defaultExecutor = executor;
+    }
+
+    private static ExecutorService newIoPool() {
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "qa-files-io-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.Value;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of updating a single template file.
+ * <p>
+ * The content is not retained, it is read from the output file on demand, so results of large batch runs
+ * can be kept without keeping the generated files in memory.
+ */
+@Value
+public class FileUpdateResult {
+    /**
+     * The source file path relative to the processed directory.
+     */
+    String sourceFile;
+    /**
+     * The name of file created in the target folder.
+     */
+    String outputFile;
+    /**
+     * Values of all placeholders replaced in the file.
+     */
+    Map<String, String> values;
+    /**
+     * The path of the created file.
+     */
+    Path outputPath;
+
+    public FileUpdateResult(String sourceFile, String outputFile, Map<String, String> values, Path outputPath) {
+        this.sourceFile = sourceFile;
+        this.outputFile = outputFile;
+        this.values = values == null ? Map.of() : Collections.unmodifiableMap(new LinkedHashMap<>(values));
+        this.outputPath = outputPath;
+    }
+
+    /**
+     * @param placeholder - the string with the placeholder, i.e. "PLACEHOLDER_ID"
+     * @return the value the placeholder was replaced with, or null if it was not replaced
+     */
+    public String getValue(String placeholder) {
+        return values.get(placeholder);
+    }
+
+    /**
+     * Reads the content of the output file, every call reads the file again.
+     *
+     * @return the lines of the output file
+     */
+    public List<String> getContent() {
+        return TemplateFiles.readLines(outputPath, null);
+    }
+}
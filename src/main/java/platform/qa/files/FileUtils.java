@@ -17,36 +17,394 @@
 package platform.qa.files;
 
 import lombok.SneakyThrows;
+import lombok.Value;
 import lombok.extern.log4j.Log4j2;
 
+import platform.qa.metrics.Metrics;
+
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPOutputStream;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.apache.commons.io.FilenameUtils;
 
 @Log4j2
 public class FileUtils {
 
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+    private static final ConcurrentMap<CsvFormat, CsvSchema> SCHEMAS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<CsvFormat, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<CsvFormat, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
     @SneakyThrows
     public static <T> List<T> readCsvFile(File csvFile, char separator, Class<T> clazz) {
-        CsvMapper csvMapper = new CsvMapper();
+        List<T> rows;
+        try (MappingIterator<T> iterator = getCsvReader(clazz, separator).readValues(csvFile)) {
+            rows = iterator.readAll();
+        }
+        recordCsvRead(csvFile, rows.size());
+        return rows;
+    }
+
+    public static <T> List<T> readCsvFile(File csvFile, Class<T> clazz) {
+        return readCsvFile(csvFile, ',', clazz);
+    }
+
+    public static <T> CompletableFuture<List<T>> readCsvFileAsync(File csvFile, char separator, Class<T> clazz) {
+        return readCsvFileAsync(csvFile, separator, clazz, FileExecutors.getDefault());
+    }
+
+    /**
+     * Reads the csv file on the given executor, so the caller can prepare or deploy other resources meanwhile.
+     *
+     * @param csvFile   - the csv file with header
+     * @param separator - the column separator
+     * @param clazz     - the type of rows
+     * @param executor  - the executor to read the file on
+     * @return the future list of rows
+     */
+    public static <T> CompletableFuture<List<T>> readCsvFileAsync(File csvFile, char separator, Class<T> clazz,
+                                                                  Executor executor) {
+        return CompletableFuture.supplyAsync(() -> readCsvFile(csvFile, separator, clazz), executor);
+    }
+
+    /**
+     * Lazily reads rows of the csv file. The stream holds the file open and should be closed after use.
+     *
+     * @param csvFile   - the csv file with header
+     * @param separator - the column separator
+     * @param clazz     - the type of rows
+     * @return the stream of rows
+     */
+    public static <T> Stream<T> streamCsvFile(File csvFile, char separator, Class<T> clazz) {
+        MappingIterator<T> iterator = openCsvFile(csvFile, getCsvReader(clazz, separator));
+        return countRows(csvFile, toStream(iterator, iterator));
+    }
+
+    /**
+     * Lazily reads rows of the csv file skipping rows that could not be parsed.
+     * The stream holds the file open and should be closed after use.
+     *
+     * @param csvFile      - the csv file with header
+     * @param separator    - the column separator
+     * @param clazz        - the type of rows
+     * @param errorHandler - the consumer of rows that could not be parsed
+     * @return the stream of parsed rows
+     */
+    public static <T> Stream<T> streamCsvFile(File csvFile, char separator, Class<T> clazz,
+                                              Consumer<CsvRowError> errorHandler) {
+        MappingIterator<T> iterator = openCsvFile(csvFile, getCsvReader(clazz, separator));
+        return countRows(csvFile, toStream(new Iterator<>() {
+            private T next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null) {
+                    try {
+                        if (!iterator.hasNextValue()) {
+                            return false;
+                        }
+                        next = iterator.nextValue();
+                    } catch (JsonProcessingException e) {
+                        errorHandler.accept(toRowError(csvFile, iterator, e));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return true;
+            }
 
-        CsvSchema csvSchema = csvMapper
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T value = next;
+                next = null;
+                return value;
+            }
+        }, iterator));
+    }
+
+    /**
+     * Reads the csv file converting rows to objects in parallel, chunk by chunk. Rows that could not be
+     * converted are skipped and reported to the error handler.
+     *
+     * @param csvFile      - the csv file with header
+     * @param separator    - the column separator
+     * @param clazz        - the type of rows
+     * @param chunkSize    - the number of rows converted by a single task
+     * @param errorHandler - the consumer of rows that could not be parsed, called from worker threads
+     * @return the list of rows in file order
+     */
+    public static <T> List<T> readCsvFileInParallel(File csvFile, char separator, Class<T> clazz, int chunkSize,
+                                                    Consumer<CsvRowError> errorHandler) {
+        return readCsvFileInParallel(csvFile, separator, clazz, chunkSize, errorHandler, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Reads the csv file converting rows to objects in parallel on the given executor, chunk by chunk.
+     * Rows are tokenized sequentially; rows that could not be converted are skipped and reported
+     * to the error handler.
+     *
+     * @param csvFile      - the csv file with header
+     * @param separator    - the column separator
+     * @param clazz        - the type of rows
+     * @param chunkSize    - the number of rows converted by a single task
+     * @param errorHandler - the consumer of rows that could not be parsed, called from worker threads
+     * @param executor     - the executor to convert chunks on
+     * @return the list of rows in file order
+     */
+    @SneakyThrows
+    public static <T> List<T> readCsvFileInParallel(File csvFile, char separator, Class<T> clazz, int chunkSize,
+                                                    Consumer<CsvRowError> errorHandler, Executor executor) {
+        ObjectReader rowReader = CSV_MAPPER.readerFor(Map.class).with(getCsvSchema(clazz, separator));
+        List<CompletableFuture<List<T>>> chunks = new ArrayList<>();
+        try (MappingIterator<Map<String, String>> iterator = openCsvFile(csvFile, rowReader)) {
+            List<Map<String, String>> rows = new ArrayList<>(chunkSize);
+            long[] lines = new long[chunkSize];
+            while (iterator.hasNextValue()) {
+                lines[rows.size()] = iterator.getCurrentLocation().getLineNr();
+                try {
+                    rows.add(iterator.nextValue());
+                } catch (JsonProcessingException e) {
+                    errorHandler.accept(toRowError(csvFile, iterator, e));
+                    continue;
+                }
+                if (rows.size() == chunkSize) {
+                    chunks.add(convertRows(csvFile, rows, lines, clazz, errorHandler, executor));
+                    rows = new ArrayList<>(chunkSize);
+                    lines = new long[chunkSize];
+                }
+            }
+            if (!rows.isEmpty()) {
+                chunks.add(convertRows(csvFile, rows, lines, clazz, errorHandler, executor));
+            }
+        }
+        List<T> converted = TemplateFiles.joinAll(chunks).stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        recordCsvRead(csvFile, converted.size());
+        return converted;
+    }
+
+    private static <T> CompletableFuture<List<T>> convertRows(File csvFile, List<Map<String, String>> rows,
+                                                              long[] lines, Class<T> clazz,
+                                                              Consumer<CsvRowError> errorHandler,
+                                                              Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<T> converted = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    converted.add(CSV_MAPPER.convertValue(rows.get(i), clazz));
+                } catch (IllegalArgumentException e) {
+                    errorHandler.accept(new CsvRowError(csvFile, lines[i], e.getMessage(), e));
+                }
+            }
+            return converted;
+        }, executor);
+    }
+
+    /**
+     * Writes rows to the csv file with header.
+     *
+     * @param csvFile - the csv file to create or overwrite
+     * @param clazz   - the type of rows
+     * @param rows    - the rows to write
+     * @return the list of written files
+     */
+    public static <T> List<File> writeCsvFile(File csvFile, Class<T> clazz, Stream<T> rows) {
+        return writeCsvFile(csvFile, clazz, rows, CsvWriteOptions.DEFAULT);
+    }
+
+    /**
+     * Writes rows to csv files with header through a buffered file channel. Rows are consumed one by one,
+     * so the memory used does not depend on the number of rows.
+     *
+     * @param csvFile - the csv file to create or overwrite, the base name of numbered files when rolling
+     * @param clazz   - the type of rows
+     * @param rows    - the rows to write, the stream is closed when they are written
+     * @param options - {@link CsvWriteOptions}
+     * @return the list of written files
+     */
+    public static <T> List<File> writeCsvFile(File csvFile, Class<T> clazz, Stream<T> rows, CsvWriteOptions options) {
+        try (rows) {
+            return writeCsvFile(csvFile, clazz, rows.iterator(), options);
+        }
+    }
+
+    public static <T> CompletableFuture<List<File>> writeCsvFileAsync(File csvFile, Class<T> clazz, Stream<T> rows,
+                                                                      CsvWriteOptions options) {
+        return writeCsvFileAsync(csvFile, clazz, rows, options, FileExecutors.getDefault());
+    }
+
+    /**
+     * Writes rows to csv files on the given executor, the stream is consumed and closed there.
+     *
+     * @param csvFile  - the csv file to create or overwrite, the base name of numbered files when rolling
+     * @param clazz    - the type of rows
+     * @param rows     - the rows to write
+     * @param options  - {@link CsvWriteOptions}
+     * @param executor - the executor to write files on
+     * @return the future list of written files
+     */
+    public static <T> CompletableFuture<List<File>> writeCsvFileAsync(File csvFile, Class<T> clazz, Stream<T> rows,
+                                                                      CsvWriteOptions options, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> writeCsvFile(csvFile, clazz, rows, options), executor);
+    }
+
+    /**
+     * Writes rows to csv files with header through a buffered file channel. Rows are consumed one by one,
+     * so the memory used does not depend on the number of rows.
+     *
+     * @param csvFile - the csv file to create or overwrite, the base name of numbered files when rolling
+     * @param clazz   - the type of rows
+     * @param rows    - the rows to write
+     * @param options - {@link CsvWriteOptions}
+     * @return the list of written files
+     */
+    public static <T> List<File> writeCsvFile(File csvFile, Class<T> clazz, Iterator<T> rows,
+                                              CsvWriteOptions options) {
+        ObjectWriter writer = getCsvWriter(clazz, options.getSeparator());
+        List<File> files = new ArrayList<>();
+        do {
+            File file = getCsvPartFile(csvFile, files.size() + 1, options);
+            long written = 0;
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 OutputStream output = openCsvOutput(channel, options);
+                 SequenceWriter sequenceWriter = writer.writeValues(output)) {
+                while (rows.hasNext() && (options.getRowsPerFile() <= 0 || written < options.getRowsPerFile())) {
+                    sequenceWriter.write(rows.next());
+                    written++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("File was not created!: " + file, e);
+            }
+            if (Metrics.isEnabled()) {
+                Metrics.increment(Metrics.LINES_WRITTEN, file.toString(), written);
+                Metrics.increment(Metrics.BYTES_WRITTEN, file.toString(), file.length());
+            }
+            files.add(file);
+        } while (rows.hasNext());
+        return files;
+    }
+
+    private static OutputStream openCsvOutput(FileChannel channel, CsvWriteOptions options) throws IOException {
+        OutputStream output = Channels.newOutputStream(channel);
+        if (options.isGzip()) {
+            output = new GZIPOutputStream(output, options.getBufferSize());
+        }
+        return new BufferedOutputStream(output, options.getBufferSize());
+    }
+
+    private static File getCsvPartFile(File csvFile, int part, CsvWriteOptions options) {
+        String name = csvFile.getName();
+        if (options.getRowsPerFile() > 0) {
+            String extension = FilenameUtils.getExtension(name);
+            name = String.format("%s-%05d%s", FilenameUtils.removeExtension(name), part,
+                    extension.isEmpty() ? "" : "." + extension);
+        }
+        if (options.isGzip() && !name.endsWith(".gz")) {
+            name = name + ".gz";
+        }
+        return new File(csvFile.getAbsoluteFile().getParentFile(), name);
+    }
+
+    private static ObjectWriter getCsvWriter(Class<?> clazz, char separator) {
+        return WRITERS.computeIfAbsent(new CsvFormat(clazz, separator), format -> CSV_MAPPER
+                .writerFor(clazz)
+                .with(getCsvSchema(clazz, separator)));
+    }
+
+    private static ObjectReader getCsvReader(Class<?> clazz, char separator) {
+        return READERS.computeIfAbsent(new CsvFormat(clazz, separator), format -> CSV_MAPPER
+                .readerWithTypedSchemaFor(clazz)
+                .with(getCsvSchema(clazz, separator)));
+    }
+
+    private static CsvSchema getCsvSchema(Class<?> clazz, char separator) {
+        return SCHEMAS.computeIfAbsent(new CsvFormat(clazz, separator), format -> CSV_MAPPER
                 .typedSchemaFor(clazz)
                 .withHeader()
                 .withColumnSeparator(separator)
-                .withComments();
+                .withComments());
+    }
 
-        try (MappingIterator<T> iterator = csvMapper
-                .readerWithTypedSchemaFor(clazz)
-                .with(csvSchema)
-                .readValues(csvFile)) {
-            return iterator.readAll();
+    private static <T> MappingIterator<T> openCsvFile(File csvFile, ObjectReader reader) {
+        try {
+            return reader.readValues(csvFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("File was not read!: " + csvFile, e);
         }
     }
 
-    public static <T> List<T> readCsvFile(File csvFile, Class<T> clazz) {
-        return readCsvFile(csvFile, ',', clazz);
+    private static <T> Stream<T> toStream(Iterator<T> iterator, MappingIterator<?> source) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        source.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private static void recordCsvRead(File csvFile, long rows) {
+        if (Metrics.isEnabled()) {
+            Metrics.increment(Metrics.CSV_ROWS_PARSED, csvFile.toString(), rows);
+            Metrics.increment(Metrics.BYTES_READ, csvFile.toString(), csvFile.length());
+        }
+    }
+
+    /**
+     * Counts rows as they are consumed, only when metrics are enabled.
+     */
+    private static <T> Stream<T> countRows(File csvFile, Stream<T> rows) {
+        if (!Metrics.isEnabled()) {
+            return rows;
+        }
+        String key = csvFile.toString();
+        return rows.peek(row -> Metrics.increment(Metrics.CSV_ROWS_PARSED, key, 1));
+    }
+
+    private static CsvRowError toRowError(File csvFile, MappingIterator<?> iterator, JsonProcessingException e) {
+        JsonLocation location = e.getLocation() != null ? e.getLocation() : iterator.getCurrentLocation();
+        return new CsvRowError(csvFile, location.getLineNr(), e.getOriginalMessage(), e);
+    }
+
+    @Value
+    private static class CsvFormat {
+        Class<?> type;
+        char separator;
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Resource created by {@link FixtureFactory}.
+ */
+@Value
+public class Fixture {
+    FixtureType type;
+    /**
+     * The unique key identifying the resource: form path, process definition key or decision key.
+     */
+    String key;
+    /**
+     * The values the placeholders of the template were replaced with.
+     */
+    Map<String, String> values;
+    String content;
+
+    /**
+     * @return the file name made of the key and the extension of the resource type
+     */
+    public String getFileName() {
+        return key + type.getExtension();
+    }
+}
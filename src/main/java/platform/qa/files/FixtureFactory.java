@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import platform.qa.constants.Naming;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.StringUtils;
+import com.github.javafaker.Faker;
+
+/**
+ * Creates many uniquely keyed forms, processes and decision tables from a single template.
+ * <p>
+ * The template is compiled once and kept in {@link TemplateCache#getDefault()}, keys come from {@link Naming}
+ * and display names are completed with random letters by a {@link Faker} reused per thread.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FixtureFactory {
+
+    private static final ThreadLocal<Faker> FAKER = ThreadLocal.withInitial(() -> new Faker(new Locale("uk-UA")));
+
+    /**
+     * @return the Faker of the current thread
+     */
+    static Faker faker() {
+        return FAKER.get();
+    }
+
+    public static List<Fixture> create(FixtureType type, Path template, String name, int count) {
+        return create(type, template, name, count, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Renders the template the given number of times in parallel. Unique keys are set to the placeholders
+     * of {@link FixtureType#getKeys()}, and "PLACEHOLDER_NAME" is set to the name followed by random letters.
+     *
+     * @param type     - {@link FixtureType}
+     * @param template - the path of template file
+     * @param name     - the display name of resources
+     * @param count    - the number of resources to create
+     * @param executor - the executor to render resources on
+     * @return the list of created resources
+     */
+    public static List<Fixture> create(FixtureType type, Path template, String name, int count, Executor executor) {
+        List<String> placeholders = new ArrayList<>(type.getKeys().keySet());
+        placeholders.add(Naming.PLACEHOLDER_NAME);
+        CompiledTemplate compiled = TemplateCache.getDefault().get(template, placeholders);
+        int chunkSize = Math.max(1, count / (4 * Runtime.getRuntime().availableProcessors()));
+        return TemplateFiles.joinAll(IntStream.range(0, (count + chunkSize - 1) / chunkSize)
+                        .mapToObj(chunk -> CompletableFuture.supplyAsync(() -> IntStream
+                                .range(chunk * chunkSize, Math.min(count, (chunk + 1) * chunkSize))
+                                .mapToObj(i -> render(type, compiled, name))
+                                .collect(Collectors.toList()), executor))
+                        .collect(Collectors.toList()))
+                .stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    public static List<Path> write(List<Fixture> fixtures, Path root) {
+        return write(fixtures, root, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Writes resources in parallel to the registry folder of their type, e.g. "root/forms/key.json".
+     *
+     * @param fixtures - the resources to write
+     * @param root     - the root folder of the registry tree
+     * @param executor - the executor to write files on
+     * @return the list of written files in order of the resources
+     */
+    public static List<Path> write(List<Fixture> fixtures, Path root, Executor executor) {
+        fixtures.stream().map(Fixture::getType).distinct().forEach(type -> {
+            try {
+                Files.createDirectories(root.resolve(type.getFolder().getName()));
+            } catch (IOException e) {
+                throw new RuntimeException("Folder was not created!", e);
+            }
+        });
+        return TemplateFiles.joinAll(fixtures.stream()
+                .map(fixture -> CompletableFuture.supplyAsync(() -> {
+                    Path file = root.resolve(fixture.getType().getFolder().getName()).resolve(fixture.getFileName());
+                    try {
+                        return Files.writeString(file, fixture.getContent(), StandardCharsets.UTF_8);
+                    } catch (IOException e) {
+                        throw new RuntimeException("File was not created!", e);
+                    }
+                }, executor))
+                .collect(Collectors.toList()));
+    }
+
+    private static Fixture render(FixtureType type, CompiledTemplate template, String name) {
+        Map<String, String> values = type.nextKeys();
+        values.put(Naming.PLACEHOLDER_NAME, name + StringUtils.SPACE + faker().letterify("?????"));
+        return new Fixture(type, values.get(type.getKeyPlaceholder()), Collections.unmodifiableMap(values),
+                template.render(values));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import platform.qa.constants.Naming;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Types of registry resources created by {@link FixtureFactory}, with the placeholders getting unique keys.
+ */
+@AllArgsConstructor
+@Getter
+public enum FixtureType {
+    FORM(Folders.FORMS_FOLDER, ".json", Naming.PLACEHOLDER_PATH,
+            Map.of(Naming.PLACEHOLDER_ID, Naming::getFormKey, Naming.PLACEHOLDER_PATH, Naming::getFormKey)),
+    PROCESS(Folders.BPMN_FOLDER, ".bpmn", Naming.PLACEHOLDER_ID,
+            Map.of(Naming.PLACEHOLDER_ID, Naming::getProcessDefinitionKey)),
+    DECISION(Folders.DMN_FOLDER, ".dmn", Naming.PLACEHOLDER_DMN_KEY,
+            Map.of(Naming.PLACEHOLDER_DMN_KEY, Naming::getDecisionDefinitionKey));
+
+    private final Folders folder;
+    private final String extension;
+    /**
+     * The placeholder of the key identifying the resource: form path, process definition key or decision key.
+     */
+    private final String keyPlaceholder;
+    private final Map<String, Supplier<String>> keys;
+
+    /**
+     * Generates new unique keys of the resource.
+     *
+     * @return the map of placeholder to its unique value
+     */
+    Map<String, String> nextKeys() {
+        Map<String, String> values = new LinkedHashMap<>();
+        keys.forEach((placeholder, key) -> values.put(placeholder, key.get()));
+        return values;
+    }
+}
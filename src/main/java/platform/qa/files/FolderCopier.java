@@ -0,0 +1,180 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import platform.qa.content.EtagUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import org.apache.commons.lang3.RandomStringUtils;
+
+/**
+ * Copies folder trees in parallel with {@link FileChannel#transferTo}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FolderCopier {
+
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    private static final int MAX_PREFIX_ATTEMPTS = 10;
+
+    public static Map<String, String> copy(Path source, Path target, FolderCopyOptions options) {
+        return copy(source, target, options, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Copies all files of the source folder tree to the target folder.
+     *
+     * @param source   - the folder to copy
+     * @param target   - the folder to copy to, it is created when missing
+     * @param options  - {@link FolderCopyOptions}
+     * @param executor - the executor to copy files on
+     * @return copied file names relative to the target folder by source file names relative to the source
+     * folder, ordered by source file path, '/' is used as a separator
+     */
+    public static Map<String, String> copy(Path source, Path target, FolderCopyOptions options, Executor executor) {
+        List<Path> files = TemplateFiles.listFiles(source, true);
+        List<String> copiedNames = TemplateFiles.joinAll(files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> copyFile(source, file, target, options), executor))
+                .collect(Collectors.toList()));
+        Map<String, String> names = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            names.put(toName(source.relativize(files.get(i))), copiedNames.get(i));
+        }
+        return names;
+    }
+
+    public static Map<String, String> copyRegulation(Path regulation, Path target, FolderCopyOptions options,
+                                                     Folders... folders) {
+        return copyRegulation(regulation, target, options, ForkJoinPool.commonPool(), folders);
+    }
+
+    /**
+     * Copies registry folders of the regulation to the target folder keeping their names, missing folders
+     * are skipped.
+     *
+     * @param regulation - the root folder of the regulation
+     * @param target     - the folder to copy to
+     * @param options    - {@link FolderCopyOptions}
+     * @param executor   - the executor to copy files on
+     * @param folders    - the registry folders to copy
+     * @return copied file names by source file names, both relative to their roots and prefixed with
+     * the registry folder name
+     */
+    public static Map<String, String> copyRegulation(Path regulation, Path target, FolderCopyOptions options,
+                                                     Executor executor, Folders... folders) {
+        Map<String, String> names = new LinkedHashMap<>();
+        for (Folders folder : folders) {
+            Path source = regulation.resolve(folder.getName());
+            if (!Files.isDirectory(source)) {
+                continue;
+            }
+            Path folderTarget = options.isKeepStructure() ? target.resolve(folder.getName()) : target;
+            String copiedPrefix = options.isKeepStructure() ? folder.getName() + "/" : "";
+            copy(source, folderTarget, options, executor).forEach((sourceName, copiedName) ->
+                    names.put(folder.getName() + "/" + sourceName, copiedPrefix + copiedName));
+        }
+        return names;
+    }
+
+    private static String copyFile(Path sourceRoot, Path source, Path targetRoot, FolderCopyOptions options) {
+        try {
+            BasicFileAttributes sourceAttributes = Files.readAttributes(source, BasicFileAttributes.class);
+            if (!options.isKeepStructure()) {
+                return copyWithRandomPrefix(source, sourceAttributes, targetRoot);
+            }
+            String copiedName = toName(sourceRoot.relativize(source));
+            Path target = targetRoot.resolve(copiedName);
+            if (isUpToDate(source, sourceAttributes, target, options)) {
+                return copiedName;
+            }
+            Files.createDirectories(target.getParent());
+            transfer(source, sourceAttributes, target, false);
+            return copiedName;
+        } catch (IOException e) {
+            throw new RuntimeException("File was not copied!: " + source, e);
+        }
+    }
+
+    /**
+     * Copies the file to the target folder under a new random prefix, so files with the same name from different
+     * folders never overwrite each other.
+     */
+    private static String copyWithRandomPrefix(Path source, BasicFileAttributes sourceAttributes, Path targetRoot)
+            throws IOException {
+        Files.createDirectories(targetRoot);
+        for (int attempt = 1; ; attempt++) {
+            String copiedName = RandomStringUtils.randomAlphabetic(5).concat(source.getFileName().toString());
+            try {
+                transfer(source, sourceAttributes, targetRoot.resolve(copiedName), true);
+                return copiedName;
+            } catch (FileAlreadyExistsException e) {
+                if (attempt == MAX_PREFIX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static void transfer(Path source, BasicFileAttributes sourceAttributes, Path target, boolean createNew)
+            throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = createNew
+                     ? FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)
+                     : FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                             StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedFiles.transfer(in, out);
+        }
+        Files.setLastModifiedTime(target, sourceAttributes.lastModifiedTime());
+    }
+
+    private static boolean isUpToDate(Path source, BasicFileAttributes sourceAttributes, Path target,
+                                      FolderCopyOptions options) throws IOException {
+        if (options.getChangeDetection() == FolderCopyOptions.ChangeDetection.NONE || !Files.isRegularFile(target)) {
+            return false;
+        }
+        BasicFileAttributes targetAttributes = Files.readAttributes(target, BasicFileAttributes.class);
+        if (sourceAttributes.size() != targetAttributes.size()) {
+            return false;
+        }
+        if (options.getChangeDetection() == FolderCopyOptions.ChangeDetection.SIZE_AND_TIME) {
+            return sourceAttributes.lastModifiedTime().equals(targetAttributes.lastModifiedTime());
+        }
+        return EtagUtils.hash(source, HASH_FUNCTION).equals(EtagUtils.hash(target, HASH_FUNCTION));
+    }
+
+    private static String toName(Path relativePath) {
+        return relativePath.toString().replace(File.separatorChar, '/');
+    }
+}
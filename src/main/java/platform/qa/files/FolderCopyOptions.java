@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Options of copying folders with {@link FolderCopier}.
+ */
+@Value
+@Builder
+public class FolderCopyOptions {
+    public static final FolderCopyOptions DEFAULT = FolderCopyOptions.builder().build();
+
+    /**
+     * Keeps relative paths of copied files, otherwise files are copied to the target root with a random
+     * prefix as {@link TestDataClient#copyFile} does.
+     */
+    @Builder.Default
+    boolean keepStructure = true;
+    /**
+     * How to find out that an existing target file is up to date and can be skipped. Applies only when
+     * the structure is kept.
+     */
+    @Builder.Default
+    ChangeDetection changeDetection = ChangeDetection.SIZE_AND_TIME;
+
+    public enum ChangeDetection {
+        /**
+         * Always overwrite target files.
+         */
+        NONE,
+        /**
+         * Skip target files with the same size and last modified time as the source ones.
+         */
+        SIZE_AND_TIME,
+        /**
+         * Skip target files with the same size and content hash as the source ones.
+         */
+        HASH
+    }
+}
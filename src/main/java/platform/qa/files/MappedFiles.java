@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only views of file content backed by memory-mapped buffers.
+ * <p>
+ * Files smaller than {@link #MAPPING_THRESHOLD} are read to the heap, since mapping them costs more
+ * than it saves. Mapped views stay valid after the file is closed and are released by the garbage collector.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MappedFiles {
+
+    public static final int MAPPING_THRESHOLD = 64 * 1024;
+
+    /**
+     * Returns the read-only view of the whole file.
+     *
+     * @param file - the file to read
+     * @return the read-only buffer positioned at the start of the file
+     * @throws IllegalArgumentException if the file does not fit a single buffer
+     */
+    public static ByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return map(channel, 0, channel.size());
+        } catch (IOException e) {
+            throw new RuntimeException("File was not found!: " + file, e);
+        }
+    }
+
+    /**
+     * Returns the read-only view of the file region.
+     *
+     * @param file     - the file to read
+     * @param position - the position of the region in the file, not more than the file size
+     * @param size     - the size of the region, not more than {@link Integer#MAX_VALUE}
+     * @return the read-only buffer of the region, shorter than the given size at the end of the file
+     * @throws IllegalArgumentException if the position or size is negative or the position is beyond the file end
+     */
+    public static ByteBuffer map(Path file, long position, long size) {
+        if (position < 0 || size < 0) {
+            throw new IllegalArgumentException("File region should not be negative: position " + position
+                    + ", size " + size);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (position > fileSize) {
+                throw new IllegalArgumentException("File region starts at " + position + " beyond the end of "
+                        + fileSize + " bytes long file: " + file);
+            }
+            return map(channel, position, Math.min(size, fileSize - position));
+        } catch (IOException e) {
+            throw new RuntimeException("File was not found!: " + file, e);
+        }
+    }
+
+    /**
+     * Decodes the UTF-8 file to characters without reading it line by line, i.e. to search placeholders
+     * or patterns with {@link java.util.regex.Matcher} over the whole content.
+     *
+     * @param file - the file to decode
+     * @return the characters of the file
+     * @throws RuntimeException if the file is not valid UTF-8, the same way as
+     *                          {@link java.nio.file.Files#lines(Path)} fails
+     */
+    public static CharBuffer decode(Path file) {
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(map(file));
+        } catch (CharacterCodingException e) {
+            throw new RuntimeException("File was not decoded!: " + file, e);
+        }
+    }
+
+    /**
+     * Copies the file with {@link FileChannel#transferTo}, so the content is not copied through heap buffers.
+     *
+     * @param source - the file to copy
+     * @param target - the file to create, it must not exist
+     * @return the number of copied bytes
+     */
+    public static long copy(Path source, Path target) {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            return transfer(in, out);
+        } catch (IOException e) {
+            throw new RuntimeException("File was not copied!", e);
+        }
+    }
+
+    static long transfer(FileChannel in, FileChannel out) throws IOException {
+        long size = in.size();
+        long position = 0;
+        while (position < size) {
+            position += in.transferTo(position, size - position, out);
+        }
+        return size;
+    }
+
+    private static ByteBuffer map(FileChannel channel, long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("File region is too large to map: " + size + " bytes");
+        }
+        if (size >= MAPPING_THRESHOLD) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+            // read until the region is filled
+        }
+        return buffer.flip().asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import platform.qa.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replaces a fixed set of placeholders in text.
+ * <p>
+ * Literal placeholders are compiled into a trie and every line is rewritten in a single pass,
+ * the longest placeholder wins when several of them start at the same position.
+ * Regex placeholders keep {@link String#replaceAll(String, String)} semantics: patterns are applied
+ * one after another in map order, but every pattern is compiled only once.
+ */
+public final class PlaceholderReplacer {
+
+    private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+
+    private final Node root;
+    private final String[] keys;
+    private final String[] values;
+    private final int maxKeyLength;
+    private final List<Pattern> patterns;
+    private final List<String> replacements;
+
+    private PlaceholderReplacer(Node root, String[] keys, String[] values, int maxKeyLength) {
+        this.root = root;
+        this.keys = keys;
+        this.values = values;
+        this.maxKeyLength = maxKeyLength;
+        this.patterns = null;
+        this.replacements = null;
+    }
+
+    private PlaceholderReplacer(List<Pattern> patterns, List<String> replacements) {
+        this.root = null;
+        this.keys = null;
+        this.values = null;
+        this.maxKeyLength = 0;
+        this.patterns = patterns;
+        this.replacements = replacements;
+    }
+
+    /**
+     * Compiles placeholders choosing the matching mode automatically: literal single-pass mode is used
+     * when none of the keys contains regex meta characters, regex mode otherwise.
+     *
+     * @param toReplace - the map of placeholder to its replacement
+     * @return {@link PlaceholderReplacer}
+     */
+    public static PlaceholderReplacer of(Map<String, String> toReplace) {
+        return isLiteral(toReplace.keySet()) ? literal(toReplace) : regex(toReplace);
+    }
+
+    /**
+     * Compiles placeholders that are matched as plain text.
+     *
+     * @param toReplace - the map of placeholder to its replacement
+     * @return {@link PlaceholderReplacer}
+     */
+    public static PlaceholderReplacer literal(Map<String, String> toReplace) {
+        Node root = new Node();
+        String[] keys = new String[toReplace.size()];
+        String[] values = new String[toReplace.size()];
+        int maxKeyLength = 0;
+        int index = 0;
+        for (Map.Entry<String, String> entry : toReplace.entrySet()) {
+            String key = entry.getKey();
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Placeholder should not be empty!");
+            }
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.addChild(key.charAt(i));
+            }
+            node.valueIndex = index;
+            keys[index] = key;
+            values[index++] = entry.getValue();
+            maxKeyLength = Math.max(maxKeyLength, key.length());
+        }
+        root.freeze();
+        return new PlaceholderReplacer(root, keys, values, maxKeyLength);
+    }
+
+    /**
+     * Compiles placeholders that are treated as regular expressions, the same way as
+     * {@link String#replaceAll(String, String)} does.
+     *
+     * @param toReplace - the map of regex to its replacement
+     * @return {@link PlaceholderReplacer}
+     */
+    public static PlaceholderReplacer regex(Map<String, String> toReplace) {
+        List<Pattern> patterns = new ArrayList<>(toReplace.size());
+        List<String> replacements = new ArrayList<>(toReplace.size());
+        toReplace.forEach((key, value) -> {
+            patterns.add(Pattern.compile(key));
+            replacements.add(value);
+        });
+        return new PlaceholderReplacer(patterns, replacements);
+    }
+
+    /**
+     * @return true when placeholders are matched as plain text and chunked replacement is supported
+     */
+    public boolean isLiteral() {
+        return root != null;
+    }
+
+    /**
+     * @return the length of the longest literal placeholder
+     */
+    public int getMaxKeyLength() {
+        return maxKeyLength;
+    }
+
+    /**
+     * Replaces all placeholders in the given text.
+     *
+     * @param text - the text to update
+     * @return updated text, or the same instance when nothing was replaced
+     */
+    public String replace(String text) {
+        if (!isLiteral()) {
+            return replaceRegex(text);
+        }
+        boolean counting = Metrics.isEnabled();
+        StringBuilder out = null;
+        int copied = 0;
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            Node node = root;
+            int matchedEnd = -1;
+            int matchedValue = -1;
+            for (int j = i; j < length && (node = node.child(text.charAt(j))) != null; j++) {
+                if (node.valueIndex >= 0) {
+                    matchedEnd = j + 1;
+                    matchedValue = node.valueIndex;
+                }
+            }
+            if (matchedEnd < 0) {
+                i++;
+                continue;
+            }
+            if (out == null) {
+                out = new StringBuilder(length + 16);
+            }
+            if (counting) {
+                Metrics.increment(Metrics.SUBSTITUTIONS, keys[matchedValue], 1);
+            }
+            out.append(text, copied, i).append(values[matchedValue]);
+            i = matchedEnd;
+            copied = matchedEnd;
+        }
+        if (out == null) {
+            return text;
+        }
+        return out.append(text, copied, length).toString();
+    }
+
+    /**
+     * Replaces placeholders in the {@code [from, to)} range of the source and appends the result to {@code out}.
+     * Unless {@code endOfInput} is set, the text at the end of the range that may be the beginning of
+     * a placeholder continuing in the next chunk is not consumed.
+     *
+     * @param source     - the text to update
+     * @param from       - the index of the first character to process
+     * @param to         - the index after the last character to process
+     * @param out        - the buffer to append updated text to
+     * @param endOfInput - true when no more text follows the range
+     * @return index of the first character that was not consumed
+     */
+    public int replace(CharSequence source, int from, int to, StringBuilder out, boolean endOfInput) {
+        if (!isLiteral()) {
+            throw new UnsupportedOperationException("Chunked replacement is supported for literal placeholders only!");
+        }
+        boolean counting = Metrics.isEnabled();
+        int copied = from;
+        int i = from;
+        while (i < to) {
+            Node node = root;
+            int j = i;
+            int matchedEnd = -1;
+            int matchedValue = -1;
+            while (j < to && (node = node.child(source.charAt(j))) != null) {
+                j++;
+                if (node.valueIndex >= 0) {
+                    matchedEnd = j;
+                    matchedValue = node.valueIndex;
+                }
+            }
+            if (!endOfInput && j == to && node != null && node.hasChildren()) {
+                break;
+            }
+            if (matchedEnd < 0) {
+                i++;
+                continue;
+            }
+            if (counting) {
+                Metrics.increment(Metrics.SUBSTITUTIONS, keys[matchedValue], 1);
+            }
+            out.append(source, copied, i).append(values[matchedValue]);
+            i = matchedEnd;
+            copied = matchedEnd;
+        }
+        out.append(source, copied, i);
+        return i;
+    }
+
+    /**
+     * Reports every literal placeholder found in the text, from left to right.
+     *
+     * @param text    - the text to scan
+     * @param handler - the handler of found placeholders
+     */
+    void scan(CharSequence text, MatchHandler handler) {
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            Node node = root;
+            int matchedEnd = -1;
+            int matchedValue = -1;
+            for (int j = i; j < length && (node = node.child(text.charAt(j))) != null; j++) {
+                if (node.valueIndex >= 0) {
+                    matchedEnd = j + 1;
+                    matchedValue = node.valueIndex;
+                }
+            }
+            if (matchedEnd < 0) {
+                i++;
+                continue;
+            }
+            handler.onMatch(i, matchedEnd, keys[matchedValue]);
+            i = matchedEnd;
+        }
+    }
+
+    /**
+     * @param placeholders - the placeholders to check
+     * @return true when none of the placeholders contains regex meta characters
+     */
+    static boolean isLiteral(Collection<String> placeholders) {
+        return placeholders.stream().allMatch(PlaceholderReplacer::isLiteral);
+    }
+
+    private String replaceRegex(String text) {
+        String result = text;
+        for (int i = 0; i < patterns.size(); i++) {
+            Matcher matcher = patterns.get(i).matcher(result);
+            if (!matcher.find()) {
+                continue;
+            }
+            StringBuilder out = new StringBuilder(result.length() + 16);
+            long found = 0;
+            do {
+                matcher.appendReplacement(out, replacements.get(i));
+                found++;
+            } while (matcher.find());
+            result = matcher.appendTail(out).toString();
+            Metrics.increment(Metrics.SUBSTITUTIONS, patterns.get(i).pattern(), found);
+        }
+        return result;
+    }
+
+    private static boolean isLiteral(String key) {
+        for (int i = 0; i < key.length(); i++) {
+            if (REGEX_META_CHARACTERS.indexOf(key.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return !key.isEmpty();
+    }
+
+    interface MatchHandler {
+        void onMatch(int start, int end, String placeholder);
+    }
+
+    private static final class Node {
+        private static final int ASCII = 128;
+
+        private TreeMap<Character, Node> building = new TreeMap<>();
+        private Node[] ascii;
+        private char[] labels;
+        private Node[] children;
+        private int valueIndex = -1;
+
+        private Node addChild(char c) {
+            return building.computeIfAbsent(c, key -> new Node());
+        }
+
+        private void freeze() {
+            labels = new char[building.size()];
+            children = new Node[building.size()];
+            int i = 0;
+            for (Map.Entry<Character, Node> entry : building.entrySet()) {
+                labels[i] = entry.getKey();
+                children[i++] = entry.getValue();
+                entry.getValue().freeze();
+            }
+            if (labels.length > 4) {
+                ascii = new Node[ASCII];
+                for (int j = 0; j < labels.length; j++) {
+                    if (labels[j] < ASCII) {
+                        ascii[labels[j]] = children[j];
+                    }
+                }
+            }
+            building = null;
+        }
+
+        private boolean hasChildren() {
+            return labels.length > 0;
+        }
+
+        private Node child(char c) {
+            if (ascii != null && c < ASCII) {
+                return ascii[c];
+            }
+            if (labels.length <= 4) {
+                for (int i = 0; i < labels.length; i++) {
+                    if (labels[i] == c) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+            int low = 0;
+            int high = labels.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (labels[mid] < c) {
+                    low = mid + 1;
+                } else if (labels[mid] > c) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import platform.qa.content.EtagUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Fingerprints of generated files kept in the output folder, so that the output can be reused when
+ * neither the template nor the replacement values have changed since the previous run. Files are identified
+ * by name, so only outputs with stable names are recorded. Entries of deleted files are dropped on load.
+ * <p>
+ * A single instance is shared per output folder, which makes it safe to update files in parallel.
+ */
+final class RegenerationManifest {
+
+    static final String FILE_NAME = ".regeneration-manifest.properties";
+    private static final ConcurrentMap<Path, RegenerationManifest> MANIFESTS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Properties fingerprints = new Properties();
+
+    private RegenerationManifest(Path folder) {
+        this.file = folder.resolve(FILE_NAME);
+        if (Files.isRegularFile(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                fingerprints.load(reader);
+            } catch (IOException e) {
+                throw new RuntimeException("File was not found!: " + file, e);
+            }
+            fingerprints.stringPropertyNames().stream()
+                    .filter(name -> !Files.exists(folder.resolve(name)))
+                    .forEach(fingerprints::remove);
+        }
+    }
+
+    /**
+     * @param folder - the output folder
+     * @return the manifest shared by all clients writing to the folder
+     */
+    static RegenerationManifest of(Path folder) {
+        return MANIFESTS.computeIfAbsent(folder.toAbsolutePath().normalize(), RegenerationManifest::new);
+    }
+
+    /**
+     * Hashes the template content together with everything that affects the generated output.
+     *
+     * @param source - the path of template file
+     * @param values - the map of placeholder to its value, or null when there is nothing to replace
+     * @param mode   - the string describing the replacement mode, e.g. regex or streaming flags
+     * @return the fingerprint of the output
+     */
+    static String fingerprint(Path source, Map<String, String> values, String mode) {
+        Hasher hasher = Hashing.murmur3_128().newHasher()
+                .putBytes(EtagUtils.hash(source, Hashing.murmur3_128()).asBytes());
+        hasher.putString(mode, StandardCharsets.UTF_8);
+        if (values != null) {
+            new TreeMap<>(values).forEach((key, value) -> hasher
+                    .putInt(key.length()).putString(key, StandardCharsets.UTF_8)
+                    .putInt(value.length()).putString(value, StandardCharsets.UTF_8));
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * @param target      - the path of generated file
+     * @param fingerprint - the fingerprint of the output that would be generated
+     * @return true if the file exists and was generated from the same inputs
+     */
+    boolean isUpToDate(Path target, String fingerprint) {
+        String recorded = fingerprints.getProperty(target.getFileName().toString());
+        return recorded != null && Files.isRegularFile(target) && recorded.equals(describe(target, fingerprint));
+    }
+
+    /**
+     * Records the fingerprint of the generated file and saves the manifest. Size and modification time
+     * of the file are recorded as well, so that the file is regenerated when it is changed by anything else.
+     *
+     * @param target      - the path of generated file
+     * @param fingerprint - the fingerprint of the output
+     */
+    synchronized void update(Path target, String fingerprint) {
+        fingerprints.setProperty(target.getFileName().toString(), describe(target, fingerprint));
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            fingerprints.store(writer, null);
+        } catch (IOException e) {
+            throw new RuntimeException("File was not created!", e);
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("File was not created!", e);
+        }
+    }
+
+    private static String describe(Path target, String fingerprint) {
+        try {
+            return fingerprint + ":" + Files.size(target) + ":" + Files.getLastModifiedTime(target).toMillis();
+        } catch (IOException e) {
+            throw new RuntimeException("File was not found!: " + target, e);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Index of keys defined and referenced by resources of a registry regulation.
+ * <p>
+ * Processes are defined by bpmn files, forms by the "name" field of form files and decisions by dmn files.
+ * Bpmn files reference forms with "camunda:formKey", decisions with "camunda:decisionRef" and processes
+ * with "calledElement" of call activities, dmn files reference decisions with "requiredDecision".
+ * Expressions like "${formKey}" are not treated as references. All files are parsed in a single
+ * parallel pass, then every query is answered from hash maps.
+ */
+public final class RegulationIndex {
+
+    public static final String CAMUNDA_NAMESPACE = "http://camunda.org/schema/1.0/bpmn";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Map<KeyType, Map<String, List<Path>>> definitions;
+    private final Map<KeyType, Map<String, List<Path>>> references;
+    private final List<Entry> unresolvedReferences;
+
+    private RegulationIndex(Map<KeyType, Map<String, List<Path>>> definitions,
+                            Map<KeyType, Map<String, List<Path>>> references) {
+        this.definitions = definitions;
+        this.references = references;
+        List<Entry> unresolved = new ArrayList<>();
+        references.forEach((type, keys) -> keys.forEach((key, files) -> {
+            if (!definitions.get(type).containsKey(key)) {
+                files.forEach(file -> unresolved.add(new Entry(type, key, file)));
+            }
+        }));
+        unresolved.sort(Comparator.comparing(Entry::getFile).thenComparing(Entry::getKey));
+        this.unresolvedReferences = Collections.unmodifiableList(unresolved);
+    }
+
+    public static RegulationIndex build(Path regulation) {
+        return build(regulation, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Scans bpmn, dmn and forms folders of the regulation in parallel, missing folders are skipped.
+     *
+     * @param regulation - the root folder of the regulation laid out as {@link Folders}
+     * @param executor   - the executor to parse files on
+     * @return {@link RegulationIndex}
+     */
+    public static RegulationIndex build(Path regulation, Executor executor) {
+        List<CompletableFuture<FileKeys>> futures = new ArrayList<>();
+        scan(regulation.resolve(Folders.BPMN_FOLDER.getName()), ".bpmn", RegulationIndex::readBpmn, executor, futures);
+        scan(regulation.resolve(Folders.DMN_FOLDER.getName()), ".dmn", RegulationIndex::readDmn, executor, futures);
+        scan(regulation.resolve(Folders.FORMS_FOLDER.getName()), ".json", RegulationIndex::readForm, executor,
+                futures);
+
+        Map<KeyType, Map<String, List<Path>>> definitions = new EnumMap<>(KeyType.class);
+        Map<KeyType, Map<String, List<Path>>> references = new EnumMap<>(KeyType.class);
+        for (KeyType type : KeyType.values()) {
+            definitions.put(type, new HashMap<>());
+            references.put(type, new HashMap<>());
+        }
+        for (FileKeys keys : TemplateFiles.joinAll(futures)) {
+            keys.defined.forEach(entry -> add(definitions, entry));
+            keys.referenced.forEach(entry -> add(references, entry));
+        }
+        return new RegulationIndex(definitions, references);
+    }
+
+    public boolean isDefined(KeyType type, String key) {
+        return definitions.get(type).containsKey(key);
+    }
+
+    /**
+     * @param type - {@link KeyType}
+     * @param key  - the key to check
+     * @return true if the key is referenced but not defined
+     */
+    public boolean isUnresolved(KeyType type, String key) {
+        return references.get(type).containsKey(key) && !isDefined(type, key);
+    }
+
+    /**
+     * @param type - {@link KeyType}
+     * @param key  - the key to check
+     * @return true if the key is defined by more than one file or more than once in a file
+     */
+    public boolean isDuplicate(KeyType type, String key) {
+        return getDefinitions(type, key).size() > 1;
+    }
+
+    /**
+     * @param type - {@link KeyType}
+     * @param key  - the key to look up
+     * @return files defining the key, empty when it is not defined
+     */
+    public List<Path> getDefinitions(KeyType type, String key) {
+        return Collections.unmodifiableList(definitions.get(type).getOrDefault(key, List.of()));
+    }
+
+    /**
+     * @param type - {@link KeyType}
+     * @param key  - the key to look up
+     * @return files referencing the key, empty when it is not referenced
+     */
+    public List<Path> getReferences(KeyType type, String key) {
+        return Collections.unmodifiableList(references.get(type).getOrDefault(key, List.of()));
+    }
+
+    /**
+     * @return references of keys that are not defined anywhere in the regulation, ordered by file
+     */
+    public List<Entry> getUnresolvedReferences() {
+        return unresolvedReferences;
+    }
+
+    /**
+     * @param type - {@link KeyType}
+     * @return files by key, for keys defined more than once
+     */
+    public Map<String, List<Path>> getDuplicateDefinitions(KeyType type) {
+        return definitions.get(type).entrySet().stream()
+                .filter(entry -> entry.getValue().size() > 1)
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue()),
+                        (first, second) -> first, LinkedHashMap::new));
+    }
+
+    /**
+     * @param type - {@link KeyType}
+     * @return the number of distinct defined keys
+     */
+    public int getDefinedCount(KeyType type) {
+        return definitions.get(type).size();
+    }
+
+    public enum KeyType {
+        PROCESS,
+        FORM,
+        DECISION
+    }
+
+    /**
+     * Key defined or referenced by a file.
+     */
+    @Value
+    public static class Entry {
+        KeyType type;
+        String key;
+        Path file;
+    }
+
+    private static void add(Map<KeyType, Map<String, List<Path>>> index, Entry entry) {
+        index.get(entry.getType()).computeIfAbsent(entry.getKey(), key -> new ArrayList<>(1)).add(entry.getFile());
+    }
+
+    private static void scan(Path folder, String extension, FileReader reader, Executor executor,
+                             List<CompletableFuture<FileKeys>> futures) {
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+        TemplateFiles.listFiles(folder, true).stream()
+                .filter(file -> file.getFileName().toString().endsWith(extension))
+                .forEach(file -> futures.add(CompletableFuture.supplyAsync(() -> read(file, reader), executor)));
+    }
+
+    private static FileKeys read(Path file, FileReader reader) {
+        FileKeys keys = new FileKeys(file);
+        try (InputStream input = Files.newInputStream(file)) {
+            reader.read(input, keys);
+        } catch (IOException | XMLStreamException e) {
+            throw new RuntimeException("File was not parsed!: " + file, e);
+        }
+        return keys;
+    }
+
+    private static void readBpmn(InputStream input, FileKeys keys) throws XMLStreamException {
+        XMLStreamReader reader = BpmnMetadataReader.XML_INPUT_FACTORY.createXMLStreamReader(input);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                if (BpmnMetadataReader.BPMN_NAMESPACE.equals(reader.getNamespaceURI())) {
+                    if ("process".equals(reader.getLocalName())) {
+                        keys.define(KeyType.PROCESS, reader.getAttributeValue(null, "id"));
+                    } else if ("callActivity".equals(reader.getLocalName())) {
+                        keys.reference(KeyType.PROCESS, reader.getAttributeValue(null, "calledElement"));
+                    }
+                }
+                keys.reference(KeyType.FORM, reader.getAttributeValue(CAMUNDA_NAMESPACE, "formKey"));
+                keys.reference(KeyType.DECISION, reader.getAttributeValue(CAMUNDA_NAMESPACE, "decisionRef"));
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void readDmn(InputStream input, FileKeys keys) throws XMLStreamException {
+        XMLStreamReader reader = BpmnMetadataReader.XML_INPUT_FACTORY.createXMLStreamReader(input);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                if ("decision".equals(reader.getLocalName())) {
+                    keys.define(KeyType.DECISION, reader.getAttributeValue(null, "id"));
+                } else if ("requiredDecision".equals(reader.getLocalName())) {
+                    keys.reference(KeyType.DECISION,
+                            StringUtils.removeStart(reader.getAttributeValue(null, "href"), "#"));
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void readForm(InputStream input, FileKeys keys) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("name".equals(field) && value == JsonToken.VALUE_STRING) {
+                    keys.define(KeyType.FORM, parser.getText());
+                    return;
+                }
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private interface FileReader {
+        void read(InputStream input, FileKeys keys) throws IOException, XMLStreamException;
+    }
+
+    private static final class FileKeys {
+        private final Path file;
+        private final List<Entry> defined = new ArrayList<>();
+        private final List<Entry> referenced = new ArrayList<>();
+
+        private FileKeys(Path file) {
+            this.file = file;
+        }
+
+        void define(KeyType type, String key) {
+            if (StringUtils.isNotBlank(key)) {
+                defined.add(new Entry(type, key, file));
+            }
+        }
+
+        void reference(KeyType type, String key) {
+            if (StringUtils.isNotBlank(key) && !key.contains("${") && !key.contains("#{")) {
+                referenced.add(new Entry(type, key, file));
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Settings of updating template files shared by {@link TestDataClient} and {@link ConcurrentTestDataClient},
+ * see {@link TemplateFiles#rewrite(Path, Path, Map, RewriteSettings, boolean)}.
+ */
+@Value
+@Builder
+class RewriteSettings {
+    boolean regexReplacement;
+    boolean streaming;
+    TemplateCache templateCache;
+    @With
+    boolean incremental;
+    /**
+     * True when some placeholders get a new random value on every update, so the output is never reused.
+     */
+    boolean randomValues;
+    /**
+     * Placeholders compiled in advance when their values are fixed, or null to compile them on every update.
+     */
+    PlaceholderReplacer replacer;
+
+    PlaceholderReplacer compile(Map<String, String> values) {
+        if (values == null) {
+            return null;
+        }
+        return replacer != null ? replacer : TemplateFiles.compile(values, regexReplacement);
+    }
+}
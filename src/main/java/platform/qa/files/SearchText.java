@@ -16,14 +16,126 @@
 
 package platform.qa.files;
 
+import platform.qa.metrics.Metrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 
 public class SearchText {
 
+    private static final LoadingCache<String, Pattern> PATTERNS = CacheBuilder.newBuilder()
+            .maximumSize(512)
+            .build(CacheLoader.from(Pattern::compile));
+
+    /**
+     * Returns the compiled pattern from the shared cache, compiling it on the first use.
+     *
+     * @param searchPattern - the regular expression
+     * @return compiled {@link Pattern}
+     */
+    public static Pattern getPattern(String searchPattern) {
+        return PATTERNS.getUnchecked(searchPattern);
+    }
+
     public static String searchTextByRegExp(String textForSearch, String searchPattern) {
-        Pattern pattern = Pattern.compile(searchPattern);
-        Matcher matcher = pattern.matcher(textForSearch);
-        return matcher.find() ? matcher.group(0) : "";
+        long start = Metrics.startTimer();
+        Matcher matcher = getPattern(searchPattern).matcher(textForSearch);
+        String found = matcher.find() ? matcher.group(0) : "";
+        if (start != 0L) {
+            Metrics.increment(Metrics.REGEX_EVALUATIONS, searchPattern, 1);
+            Metrics.recordSince(Metrics.REGEX_TIME, searchPattern, start);
+        }
+        return found;
+    }
+
+    /**
+     * Searches for the first match of the pattern line by line, without joining the lines into one text.
+     *
+     * @param lines         - the lines to search in
+     * @param searchPattern - the regular expression
+     * @return the first match, or an empty string when nothing was found
+     */
+    public static String searchTextByRegExp(Iterable<String> lines, String searchPattern) {
+        return searchTextByRegExps(lines, Map.of(searchPattern, searchPattern)).get(searchPattern);
+    }
+
+    /**
+     * Searches for the first match of every named pattern in the text.
+     *
+     * @param textForSearch  - the text to search in
+     * @param searchPatterns - the map of name to regular expression
+     * @return the map of name to the first match, or to an empty string when nothing was found
+     */
+    public static Map<String, String> searchTextByRegExps(String textForSearch, Map<String, String> searchPatterns) {
+        Map<String, String> found = new LinkedHashMap<>();
+        searchPatterns.forEach((name, searchPattern) ->
+                found.put(name, searchTextByRegExp(textForSearch, searchPattern)));
+        return found;
+    }
+
+    /**
+     * Searches for the first match of every named pattern line by line. Lines are read only until all patterns
+     * are found, so a lazily read file does not have to be loaded completely.
+     *
+     * @param lines          - the lines to search in
+     * @param searchPatterns - the map of name to regular expression
+     * @return the map of name to the first match, or to an empty string when nothing was found
+     */
+    public static Map<String, String> searchTextByRegExps(Iterable<String> lines, Map<String, String> searchPatterns) {
+        Map<String, Pattern> remaining = new LinkedHashMap<>();
+        searchPatterns.forEach((name, searchPattern) -> remaining.put(name, getPattern(searchPattern)));
+        Map<String, String> found = new LinkedHashMap<>();
+        boolean counting = Metrics.isEnabled();
+        for (String line : lines) {
+            if (remaining.isEmpty()) {
+                break;
+            }
+            remaining.entrySet().removeIf(entry -> {
+                if (counting) {
+                    Metrics.increment(Metrics.REGEX_EVALUATIONS, entry.getValue().pattern(), 1);
+                }
+                Matcher matcher = entry.getValue().matcher(line);
+                if (matcher.find()) {
+                    found.put(entry.getKey(), matcher.group(0));
+                    return true;
+                }
+                return false;
+            });
+        }
+        Map<String, String> result = new LinkedHashMap<>();
+        searchPatterns.keySet().forEach(name -> result.put(name, found.getOrDefault(name, "")));
+        return result;
+    }
+
+    /**
+     * Finds all matches of the pattern in the text.
+     *
+     * @param textForSearch - the text to search in
+     * @param searchPattern - the regular expression
+     * @return the list of matches in order of appearance
+     */
+    public static List<String> findAll(String textForSearch, String searchPattern) {
+        return findAllAsStream(textForSearch, searchPattern).collect(Collectors.toList());
+    }
+
+    /**
+     * Lazily finds matches of the pattern in the text.
+     *
+     * @param textForSearch - the text to search in
+     * @param searchPattern - the regular expression
+     * @return the stream of matches in order of appearance
+     */
+    public static Stream<String> findAllAsStream(String textForSearch, String searchPattern) {
+        Metrics.increment(Metrics.REGEX_EVALUATIONS, searchPattern, 1);
+        return getPattern(searchPattern).matcher(textForSearch).results().map(MatchResult::group);
     }
 }
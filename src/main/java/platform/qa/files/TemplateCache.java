@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.Value;
+
+import platform.qa.metrics.Metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Bounded cache of {@link CompiledTemplate} keyed by file path and the set of placeholders.
+ * <p>
+ * A cached template is reused while modification time and size of its file stay the same,
+ * the least recently used templates are evicted when the cache is full.
+ */
+public final class TemplateCache {
+
+    private static final TemplateCache DEFAULT = new TemplateCache(256);
+
+    private final Cache<Key, Entry> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maximumSize - the maximum number of templates to keep
+     */
+    public TemplateCache(long maximumSize) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .removalListener(notification -> {
+                    if (notification.getCause() == RemovalCause.SIZE) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * @return the cache shared by all clients by default
+     */
+    public static TemplateCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the compiled template of the file, reading and compiling it only when it is not cached yet
+     * or the file has changed since.
+     *
+     * @param path         - the path of template file
+     * @param placeholders - the literal placeholders to look for
+     * @return {@link CompiledTemplate}
+     */
+    public CompiledTemplate get(Path path, Collection<String> placeholders) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new RuntimeException("File was not found!: ", e);
+        }
+        Key key = new Key(path.toAbsolutePath().normalize(), List.copyOf(new TreeSet<>(placeholders)));
+        boolean[] loaded = {false};
+        Callable<Entry> loader = () -> {
+            loaded[0] = true;
+            return load(path, attributes, placeholders);
+        };
+        Entry entry = getOrLoad(key, loader);
+        if (!entry.isValid(attributes)) {
+            cache.asMap().remove(key, entry);
+            entry = getOrLoad(key, loader);
+        }
+        (loaded[0] ? misses : hits).increment();
+        return entry.getTemplate();
+    }
+
+    /**
+     * Loads the entry once per key, threads asking for the same template meanwhile wait for it.
+     */
+    private Entry getOrLoad(Key key, Callable<Entry> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : new RuntimeException(e.getCause());
+        }
+    }
+
+    private static Entry load(Path path, BasicFileAttributes attributes, Collection<String> placeholders) {
+        try {
+            String content = Files.readString(path, StandardCharsets.UTF_8);
+            Metrics.increment(Metrics.BYTES_READ, path.toString(), attributes.size());
+            return new Entry(attributes.lastModifiedTime(), attributes.size(),
+                    CompiledTemplate.compile(content, placeholders));
+        } catch (IOException e) {
+            throw new RuntimeException("File was not found!: ", e);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Value
+    private static class Key {
+        Path path;
+        List<String> placeholders;
+    }
+
+    @Value
+    private static class Entry {
+        FileTime lastModifiedTime;
+        long size;
+        CompiledTemplate template;
+
+        boolean isValid(BasicFileAttributes attributes) {
+            return size == attributes.size() && lastModifiedTime.equals(attributes.lastModifiedTime());
+        }
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.files;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import platform.qa.constants.Naming;
+import platform.qa.metrics.Metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.RandomStringUtils;
+
+/**
+ * Common operations on template files shared by the test data clients.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class TemplateFiles {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_PREFIX_ATTEMPTS = 10;
+
+    /**
+     * Resolves values of placeholders: "any" is replaced with a random form key.
+     *
+     * @param toReplace - the map of placeholder to its value
+     * @return the map of placeholder to its resolved value in the same order
+     */
+    static Map<String, String> resolveValues(Map<String, String> toReplace) {
+        Map<String, String> values = new LinkedHashMap<>();
+        toReplace.forEach((key, value) -> values.put(key, isRandom(value) ? Naming.getFormKey() : value));
+        return values;
+    }
+
+    static boolean isRandom(String value) {
+        return "any".equals(value);
+    }
+
+    static PlaceholderReplacer compile(Map<String, String> values, boolean regexReplacement) {
+        return regexReplacement ? PlaceholderReplacer.regex(values) : PlaceholderReplacer.of(values);
+    }
+
+    /**
+     * Reads the source file replacing placeholders in every line.
+     *
+     * @param source   - the path of template file
+     * @param replacer - the compiled placeholders, or null to read the file as is
+     * @return the list of updated lines
+     */
+    static List<String> readLines(Path source, PlaceholderReplacer replacer) {
+        List<String> content;
+        try (Stream<String> lines = Files.lines(source, StandardCharsets.UTF_8)) {
+            content = replacer == null
+                    ? lines.collect(Collectors.toList())
+                    : lines.map(replacer::replace).collect(Collectors.toList());
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("File was not found!: ", e);
+        }
+        if (Metrics.isEnabled()) {
+            Metrics.increment(Metrics.LINES_READ, source.toString(), content.size());
+            Metrics.increment(Metrics.BYTES_READ, source.toString(), source.toFile().length());
+        }
+        return content;
+    }
+
+    /**
+     * Reads the source file replacing placeholders in every line, taking the compiled template from the cache
+     * when it is given and all placeholders are literal.
+     *
+     * @param source           - the path of template file
+     * @param values           - the map of placeholder to its value, or null when there is nothing to replace
+     * @param regexReplacement - true to treat placeholders as regular expressions
+     * @param cache            - the cache of compiled templates, or null to read the file directly
+     * @return the list of updated lines
+     */
+    static List<String> readLines(Path source, Map<String, String> values, boolean regexReplacement,
+                                  TemplateCache cache) {
+        if (values == null) {
+            return readLines(source, null);
+        }
+        if (cache != null && !regexReplacement && PlaceholderReplacer.isLiteral(values.keySet())) {
+            return cache.get(source, values.keySet()).renderLines(values);
+        }
+        return readLines(source, compile(values, regexReplacement));
+    }
+
+    /**
+     * Creates or overwrites the target file with the given lines.
+     *
+     * @param target  - the path of file to create
+     * @param content - the list of lines to write
+     */
+    static void writeLines(Path target, List<String> content) {
+        try {
+            Files.deleteIfExists(target);
+            Files.createFile(target);
+            Files.write(target, content);
+        } catch (Exception e) {
+            throw new RuntimeException("File was not created!", e);
+        }
+        if (Metrics.isEnabled()) {
+            Metrics.increment(Metrics.LINES_WRITTEN, target.toString(), content.size());
+            Metrics.increment(Metrics.BYTES_WRITTEN, target.toString(), target.toFile().length());
+        }
+    }
+
+    /**
+     * @return the path of template file, only the file name of the given one is taken
+     */
+    static Path getSourcePath(String rootPath, String folder, String fileName) {
+        return Path.of(rootPath + folder, FilenameUtils.getName(fileName));
+    }
+
+    /**
+     * Creates an empty file named as the given one with a random prefix, another prefix is taken when the file
+     * already exists. It keeps files with the same name from different folders from overwriting each other.
+     *
+     * @param folder   - the path of folder to create the file in
+     * @param fileName - the string with the file name to prefix
+     * @return the name of created file
+     */
+    static String createOutputFile(Path folder, String fileName) {
+        for (int attempt = 1; ; attempt++) {
+            String outputFile = RandomStringUtils.randomAlphabetic(5).concat(fileName);
+            try {
+                Files.createFile(folder.resolve(outputFile));
+                return outputFile;
+            } catch (FileAlreadyExistsException e) {
+                if (attempt == MAX_PREFIX_ATTEMPTS) {
+                    throw new RuntimeException("File was not created!", e);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("File was not created!", e);
+            }
+        }
+    }
+
+    /**
+     * Lists regular files of the directory ordered by path.
+     *
+     * @param directory - the path of directory to list
+     * @param recursive - true to list files of nested directories as well
+     * @return the sorted list of file paths
+     */
+    static List<Path> listFiles(Path directory, boolean recursive) {
+        try (Stream<Path> files = Files.walk(directory, recursive ? Integer.MAX_VALUE : 1)) {
+            return files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Folder was not found!: ", e);
+        }
+    }
+
+    /**
+     * Waits for all futures and returns their results in the same order, rethrowing the original
+     * runtime exception of the first failed one.
+     */
+    static <T> List<T> joinAll(List<CompletableFuture<T>> futures) {
+        try {
+            return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Updates the source file and writes it to the target one. In the incremental mode the target file is left
+     * as is when it was generated from the same template and values before.
+     *
+     * @param source      - the path of template file
+     * @param target      - the path of file to create or overwrite
+     * @param values      - the map of placeholder to its value, or null when there is nothing to replace
+     * @param settings    - the settings of the client updating the file
+     * @param keepContent - true to return the updated content
+     * @return the updated content when it should be kept, null otherwise
+     */
+    static List<String> rewrite(Path source, Path target, Map<String, String> values, RewriteSettings settings,
+                                boolean keepContent) {
+        String fingerprint = null;
+        if (settings.isIncremental() && !settings.isRandomValues()) {
+            fingerprint = RegenerationManifest.fingerprint(source, values,
+                    "regex=" + settings.isRegexReplacement() + ";streaming=" + settings.isStreaming());
+            if (RegenerationManifest.of(target.getParent()).isUpToDate(target, fingerprint)) {
+                return keepContent ? readLines(target, null) : null;
+            }
+        }
+        List<String> content = null;
+        if (settings.isStreaming()) {
+            rewrite(source, target, settings.compile(values));
+        } else {
+            content = settings.getTemplateCache() == null
+                    ? readLines(source, settings.compile(values))
+                    : readLines(source, values, settings.isRegexReplacement(), settings.getTemplateCache());
+            writeLines(target, content);
+        }
+        if (fingerprint != null) {
+            RegenerationManifest.of(target.getParent()).update(target, fingerprint);
+        }
+        if (!keepContent) {
+            return null;
+        }
+        return content != null ? content : readLines(target, null);
+    }
+
+    /**
+     * Copies the source file to the target one replacing placeholders on the fly. Line separators of
+     * the source file are preserved.
+     *
+     * @param source   - the path of template file
+     * @param target   - the path of file to create or overwrite
+     * @param replacer - the compiled placeholders, or null to copy the file as is
+     * @return the number of characters written
+     */
+    static long rewrite(Path source, Path target, PlaceholderReplacer replacer) {
+        long written;
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8);
+             Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            if (replacer == null) {
+                written = reader.transferTo(writer);
+            } else {
+                written = replacer.isLiteral()
+                        ? rewriteChunks(reader, writer, replacer)
+                        : rewriteLines(reader, writer, replacer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("File was not created!", e);
+        }
+        if (Metrics.isEnabled()) {
+            Metrics.increment(Metrics.BYTES_READ, source.toString(), source.toFile().length());
+            Metrics.increment(Metrics.BYTES_WRITTEN, target.toString(), target.toFile().length());
+        }
+        return written;
+    }
+
+    private static long rewriteChunks(Reader reader, Writer writer, PlaceholderReplacer replacer) throws IOException {
+        char[] buffer = new char[Math.max(BUFFER_SIZE, replacer.getMaxKeyLength() * 2)];
+        CharBuffer input = CharBuffer.wrap(buffer);
+        StringBuilder out = new StringBuilder(buffer.length + 1024);
+        char[] output = new char[out.capacity()];
+        int length = 0;
+        long written = 0;
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            int read = reader.read(buffer, length, buffer.length - length);
+            endOfInput = read < 0;
+            length += Math.max(read, 0);
+
+            int consumed = replacer.replace(input, 0, length, out, endOfInput);
+            if (output.length < out.length()) {
+                output = new char[out.length()];
+            }
+            out.getChars(0, out.length(), output, 0);
+            writer.write(output, 0, out.length());
+            written += out.length();
+            out.setLength(0);
+
+            length -= consumed;
+            System.arraycopy(buffer, consumed, buffer, 0, length);
+        }
+        return written;
+    }
+
+    private static long rewriteLines(BufferedReader reader, Writer writer, PlaceholderReplacer replacer)
+            throws IOException {
+        long written = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String updated = replacer.replace(line);
+            writer.write(updated);
+            writer.write(System.lineSeparator());
+            written += updated.length() + System.lineSeparator().length();
+        }
+        return written;
+    }
+}
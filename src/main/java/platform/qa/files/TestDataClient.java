@@ -17,8 +17,10 @@
 package platform.qa.files;
 
 import lombok.Getter;
-import platform.qa.constants.Naming;
 
+import platform.qa.metrics.Metrics;
+
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -26,12 +28,19 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.input.CharSequenceReader;
 import org.apache.commons.lang3.RandomStringUtils;
 
 /**
@@ -44,16 +53,28 @@ public class TestDataClient {
     private String folder = "files";
     private HashMap<String, String> toReplace = new HashMap<>();
     private String outputFile = "main-liquibase.xml";
+    private boolean regexReplacement = false;
+    private boolean streaming = false;
+    private Boolean keepOutputContent;
+    private TemplateCache templateCache;
+    private boolean incremental = false;
+    private Executor executor;
 
-    @Getter
-    private HashMap<String, String> ids = new HashMap<>();
+    private HashMap<String, String> ids = new LinkedHashMap<>();
 
-    @Getter
-    private HashMap<String, String> paths = new HashMap<>();
+    private HashMap<String, String> paths = new LinkedHashMap<>();
+
+    private HashMap<String, Map<String, String>> values = new LinkedHashMap<>();
 
     @Getter
     private List<String> outputContent;
 
+    /**
+     * The result of the last {@link #updateFile(String, String)} call with values of all its placeholders.
+     */
+    @Getter
+    private FileUpdateResult lastResult;
+
     public TestDataClient setPatternToReplace(String textPattern, String replaceWith) {
         toReplace.put(textPattern, replaceWith);
         return this;
@@ -150,41 +171,250 @@ public class TestDataClient {
         return this;
     }
 
+    /**
+     * Forces placeholders to be treated as regular expressions, the way {@link String#replaceAll(String, String)}
+     * does. By default placeholders are matched literally in a single pass, unless any of them contains regex
+     * meta characters.
+     *
+     * @param regexReplacement - true to treat placeholders as regular expressions
+     * @return {@link TestDataClient}
+     */
+    public TestDataClient setRegexReplacement(boolean regexReplacement) {
+        this.regexReplacement = regexReplacement;
+        return this;
+    }
+
     public String updateFile(String fileName) {
-        return updateFile(fileName, RandomStringUtils.randomAlphabetic(5).concat(fileName));
+        return updateFile(fileName, RandomStringUtils.randomAlphabetic(5).concat(fileName), false);
+    }
+
+    /**
+     * Rewrites files chunk by chunk straight into the target folder instead of reading them into memory first.
+     * Line separators of the template are preserved. {@link #getOutputContent()} is not filled in this mode
+     * unless it is requested with {@link #setKeepOutputContent(boolean)}.
+     *
+     * @param streaming - true to stream files to the target folder
+     * @return {@link TestDataClient}
+     */
+    public TestDataClient setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
+    /**
+     * Defines whether the content of the last updated file is kept in {@link #getOutputContent()}.
+     * It is kept by default, except for the streaming mode.
+     *
+     * @param keepOutputContent - true to keep the content of the last updated file
+     * @return {@link TestDataClient}
+     */
+    public TestDataClient setKeepOutputContent(boolean keepOutputContent) {
+        this.keepOutputContent = keepOutputContent;
+        return this;
+    }
+
+    /**
+     * Returns a copy of the tracked ids taken under the client lock, so it can be read while files are
+     * updated asynchronously. The copy does not reflect later updates, and changing it does not affect the client.
+     *
+     * @return the snapshot of the last value set in every updated file by the file name
+     */
+    public synchronized HashMap<String, String> getIds() {
+        return new HashMap<>(ids);
+    }
+
+    /**
+     * Returns a copy of the tracked paths taken under the client lock, see {@link #getIds()}.
+     *
+     * @return the snapshot of the last value set in every updated file by the file name
+     */
+    public synchronized HashMap<String, String> getPaths() {
+        return new HashMap<>(paths);
+    }
+
+    /**
+     * @param fileName - the string with the name of updated or read file
+     * @return values of all placeholders set in the file the last time, or an empty map if it is not tracked
+     */
+    public synchronized Map<String, String> getValues(String fileName) {
+        return values.getOrDefault(fileName, Map.of());
+    }
+
+    /**
+     * Limits the number of files tracked in {@link #getIds()}, {@link #getPaths()} and {@link #getValues(String)},
+     * the eldest entries are dropped first. Already tracked files are kept up to the limit.
+     *
+     * @param maxTrackedFiles - the maximum number of tracked files, must be positive
+     * @return {@link TestDataClient}
+     */
+    public TestDataClient setMaxTrackedFiles(int maxTrackedFiles) {
+        if (maxTrackedFiles <= 0) {
+            throw new IllegalArgumentException("Max tracked files must be positive: " + maxTrackedFiles);
+        }
+        synchronized (this) {
+            ids = boundedCopy(ids, maxTrackedFiles);
+            paths = boundedCopy(paths, maxTrackedFiles);
+            values = boundedCopy(values, maxTrackedFiles);
+        }
+        return this;
+    }
+
+    /**
+     * Forgets ids, paths and values of all updated files, as well as the last result and its content.
+     *
+     * @return {@link TestDataClient}
+     */
+    public synchronized TestDataClient clearTrackedFiles() {
+        ids.clear();
+        paths.clear();
+        values.clear();
+        outputContent = null;
+        lastResult = null;
+        return this;
+    }
+
+    /**
+     * Takes compiled templates from the given cache instead of reading and scanning files on every call.
+     * The cache is not used in the streaming and regex modes.
+     *
+     * @param templateCache - the cache of compiled templates, e.g. {@link TemplateCache#getDefault()}
+     * @return {@link TestDataClient}
+     */
+    public TestDataClient setTemplateCache(TemplateCache templateCache) {
+        this.templateCache = templateCache;
+        return this;
+    }
+
+    /**
+     * Reuses output files generated by previous runs when neither the template nor the replacement values
+     * have changed. Fingerprints are kept in a manifest in the target folder. Files are always regenerated
+     * when random values are set with "any".
+     * <p>
+     * Only {@link #updateFile(String, String)}, {@link #updateFileWithResult(String, String)} and
+     * {@link #updateFileAsync(String, String)} with a stable output file name benefit from it. Methods that
+     * generate a random output file name neither check nor update the manifest.
+     *
+     * @param incremental - true to skip regeneration of unchanged output files
+     * @return {@link TestDataClient}
+     */
+    public TestDataClient setIncremental(boolean incremental) {
+        this.incremental = incremental;
+        return this;
+    }
+
+    /**
+     * Sets the executor of asynchronous methods, {@link FileExecutors#getDefault()} is used when it is not set.
+     *
+     * @param executor - the executor to update and copy files on
+     * @return {@link TestDataClient}
+     */
+    public TestDataClient setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the name of file created by {@link #renameAsOutput(String)}, "main-liquibase.xml" by default.
+     *
+     * @param outputFile - the string with the output file name
+     * @return {@link TestDataClient}
+     */
+    public TestDataClient setOutputFile(String outputFile) {
+        this.outputFile = outputFile;
+        return this;
     }
 
     public String updateFile(String fileName, String outputFile) {
-        outputContent = readUpdatedFile(fileName);
-        createTempFile("target", outputFile, outputContent);
-        return outputFile;
+        return updateFile(fileName, outputFile, true);
+    }
+
+    /**
+     * Updates the file like {@link #updateFile(String, String)} and describes the result. The content is read
+     * from the output file only on demand, use {@link #setKeepOutputContent(boolean)} to drop the retained one.
+     *
+     * @param fileName   - the string with the name of template file
+     * @param outputFile - the string with the name of file to create in the target folder
+     * @return {@link FileUpdateResult} with values of all placeholders of the file
+     */
+    public FileUpdateResult updateFileWithResult(String fileName, String outputFile) {
+        updateFile(fileName, outputFile);
+        return lastResult;
+    }
+
+    public CompletableFuture<FileUpdateResult> updateFileAsync(String fileName) {
+        return track(toConcurrentClient().updateFileAsync(fileName, getExecutor()));
+    }
+
+    /**
+     * Updates the file asynchronously with the settings this client has at the time of the call, so the client
+     * can be reconfigured for the next file right away. Ids and paths of the file are registered once it is
+     * updated; {@link #getOutputContent()} and {@link #getLastResult()} are not changed.
+     *
+     * @param fileName   - the string with the name of template file
+     * @param outputFile - the string with the name of file to create in the target folder
+     * @return the future {@link FileUpdateResult}
+     */
+    public CompletableFuture<FileUpdateResult> updateFileAsync(String fileName, String outputFile) {
+        return track(toConcurrentClient().updateFileAsync(fileName, outputFile, getExecutor()));
     }
 
     public List<String> readUpdatedFile(String fileName) {
-        List<String> lines = readFromFile(fileName).collect(Collectors.toList());
-        if (!toReplace.keySet().isEmpty()) {
-            for (var key : toReplace.keySet()) {
-                var value = "any".equals(toReplace.get(key)) ?
-                        Naming.getFormKey() :
-                        toReplace.get(key);
-                ids.put(fileName, value);
-                paths.put(fileName, value);
-                lines = lines.stream().map(line
-                                -> line.replaceAll(key, value))
-                        .collect(Collectors.toList());
-            }
-        }
-        return lines;
+        return TemplateFiles.readLines(getSourcePath(fileName), resolveValues(fileName), regexReplacement,
+                templateCache);
     }
 
     public List<String> updateFiles(String directory) {
         var list = readFromFolder(directory);
         folder = folder + "/" + directory;
         return list.stream().map(fileName ->
-                        updateFile(fileName, RandomStringUtils.randomAlphabetic(5).concat(fileName)))
+                        updateFile(fileName, RandomStringUtils.randomAlphabetic(5).concat(fileName), false))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Updates all files of the directory in parallel on the common fork-join pool.
+     *
+     * @param directory - the string with the directory name relative to the current folder
+     * @param recursive - true to process files of nested directories as well
+     * @return the list of results ordered by source file path
+     */
+    public List<FileUpdateResult> updateFilesInParallel(String directory, boolean recursive) {
+        return updateFilesInParallel(directory, recursive, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Updates all files of the directory in parallel on the given executor. Unlike {@link #updateFiles(String)}
+     * the current folder is not changed and {@link #getOutputContent()} is not filled.
+     *
+     * @param directory - the string with the directory name relative to the current folder
+     * @param recursive - true to process files of nested directories as well
+     * @param executor  - the executor to process files on
+     * @return the list of results ordered by source file path
+     */
+    public List<FileUpdateResult> updateFilesInParallel(String directory, boolean recursive, Executor executor) {
+        List<FileUpdateResult> results = toConcurrentClient().updateFilesInParallel(directory, recursive, executor);
+        results.forEach(result -> track(result.getSourceFile(), result.getValues()));
+        return results;
+    }
+
+    /**
+     * Creates a thread-safe snapshot of this client that can be shared between parallel tests.
+     * Later changes of this client do not affect the snapshot.
+     *
+     * @return {@link ConcurrentTestDataClient}
+     */
+    public ConcurrentTestDataClient toConcurrentClient() {
+        return ConcurrentTestDataClient.builder()
+                .rootPath(rootPath)
+                .folder(folder)
+                .patternsToReplace(toReplace)
+                .regexReplacement(regexReplacement)
+                .streaming(streaming)
+                .templateCache(templateCache)
+                .incremental(incremental)
+                .build();
+    }
+
     public String renameAsOutput(String inputFile) {
         Stream<String> lines = readFromFile(inputFile);
         createTempFile("target", outputFile, lines.collect(Collectors.toList()));
@@ -202,23 +432,151 @@ public class TestDataClient {
         Path source = Paths.get(folder, FilenameUtils.getName(filename));
         String copiedFileName = RandomStringUtils.randomAlphabetic(5).concat(filename);
         Path destination = Paths.get("target/", FilenameUtils.getName(copiedFileName));
+        MappedFiles.copy(source, destination);
+        return copiedFileName;
+    }
+
+    /**
+     * Copies provided file to the target folder asynchronously.
+     *
+     * @param folder   - the string with the folder name to search in
+     * @param filename - the string with the name of file that should be copied
+     * @return the future copied file name
+     */
+    public CompletableFuture<String> copyFileAsync(String folder, String filename) {
+        return CompletableFuture.supplyAsync(() -> copyFile(folder, filename), getExecutor());
+    }
+
+    /**
+     * Copies all files of provided folder tree to the target folder in parallel.
+     *
+     * @param folder        - the string with the folder name to copy
+     * @param keepStructure - true to copy files to "target/folder name" keeping their relative paths and skipping
+     *                      unchanged ones, false to copy them to the target folder with a random prefix
+     * @return copied file names by source file names, relative to the target and provided folder
+     */
+    public Map<String, String> copyFolder(String folder, boolean keepStructure) {
+        Path source = Paths.get(folder);
+        Path target = keepStructure ? Paths.get("target", source.getFileName().toString()) : Paths.get("target");
+        return FolderCopier.copy(source, target, FolderCopyOptions.builder().keepStructure(keepStructure).build());
+    }
+
+    /**
+     * @param stableName - false when the output file name is random, so the output is never reused
+     */
+    private String updateFile(String fileName, String outputFile, boolean stableName) {
+        Path target = Path.of("target", FilenameUtils.getName(outputFile));
+        outputContent = null;
+        lastResult = rewriteFile(getSourcePath(fileName), fileName, target, outputFile, isOutputContentKept(),
+                stableName);
+        return outputFile;
+    }
+
+    /**
+     * Updates the source file and writes it to the target folder.
+     *
+     * @param keepContent - true to keep the updated content in {@link #getOutputContent()}
+     * @param stableName  - false when the output file name is random, so the output is never reused
+     */
+    private FileUpdateResult rewriteFile(Path source, String fileName, Path target, String outputFile,
+                                         boolean keepContent, boolean stableName) {
+        long start = Metrics.startTimer();
         try {
-            Files.copy(source, destination);
-        } catch (IOException e) {
-            throw new RuntimeException("File was not copied!", e);
+            Map<String, String> values = resolveValues(fileName);
+            List<String> content = TemplateFiles.rewrite(source, target, values, getRewriteSettings(stableName),
+                    keepContent);
+            if (keepContent) {
+                outputContent = content;
+            }
+            return new FileUpdateResult(fileName, outputFile, values, target);
+        } finally {
+            Metrics.recordSince(Metrics.FILE_REWRITE_TIME, fileName, start);
         }
-        return copiedFileName;
     }
 
+    private RewriteSettings getRewriteSettings(boolean stableName) {
+        return RewriteSettings.builder()
+                .regexReplacement(regexReplacement)
+                .streaming(streaming)
+                .templateCache(templateCache)
+                .incremental(incremental && stableName)
+                .randomValues(toReplace.values().stream().anyMatch(TemplateFiles::isRandom))
+                .build();
+    }
+
+    /**
+     * Reads small files line by line, larger ones are decoded from their mapped view.
+     */
     private Stream<String> readFromFile(String name) {
-        String path = rootPath + folder;
+        Path source = getSourcePath(name);
         try {
-            return Files.lines(Path.of(path, FilenameUtils.getName(name)), StandardCharsets.UTF_8);
+            if (Files.size(source) >= MappedFiles.MAPPING_THRESHOLD) {
+                return new BufferedReader(new CharSequenceReader(MappedFiles.decode(source))).lines();
+            }
+            return Files.lines(source, StandardCharsets.UTF_8);
         } catch (IOException e) {
             throw new RuntimeException("File was not found!: ", e);
         }
     }
 
+    private Path getSourcePath(String name) {
+        return TemplateFiles.getSourcePath(rootPath, folder, name);
+    }
+
+    private boolean isOutputContentKept() {
+        return keepOutputContent != null ? keepOutputContent : !streaming;
+    }
+
+    /**
+     * Resolves values of placeholders for the given file and registers them.
+     *
+     * @param fileName - the string with the name of file the values are resolved for
+     * @return the map of placeholder to its value, or null when there is nothing to replace
+     */
+    private Map<String, String> resolveValues(String fileName) {
+        if (toReplace.isEmpty()) {
+            return null;
+        }
+        Map<String, String> values = TemplateFiles.resolveValues(toReplace);
+        track(fileName, values);
+        return values;
+    }
+
+    private void track(String fileName, Map<String, String> fileValues) {
+        if (fileValues.isEmpty()) {
+            return;
+        }
+        String lastValue = fileValues.values().stream().reduce((first, second) -> second).orElseThrow();
+        Map<String, String> snapshot = Collections.unmodifiableMap(new LinkedHashMap<>(fileValues));
+        synchronized (this) {
+            ids.put(fileName, lastValue);
+            paths.put(fileName, lastValue);
+            values.put(fileName, snapshot);
+        }
+    }
+
+    private CompletableFuture<FileUpdateResult> track(CompletableFuture<FileUpdateResult> update) {
+        return update.thenApply(result -> {
+            track(result.getSourceFile(), result.getValues());
+            return result;
+        });
+    }
+
+    private Executor getExecutor() {
+        return executor != null ? executor : FileExecutors.getDefault();
+    }
+
+    private static <V> HashMap<String, V> boundedCopy(Map<String, V> tracked, int maxSize) {
+        HashMap<String, V> bounded = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+        bounded.putAll(tracked);
+        return bounded;
+    }
+
     private List<String> readFromFolder(String directory) {
         Path path = Path.of(rootPath + folder, FilenameUtils.getName(directory));
         return Arrays.asList(path.toFile().list());
@@ -233,15 +591,8 @@ public class TestDataClient {
      * @return - created file
      */
     private File createTempFile(String folder, String tempFilename, List<String> context) {
-        Path path;
-        try {
-            path = Path.of(folder, FilenameUtils.getName(tempFilename));
-            Files.deleteIfExists(path);
-            Files.createFile(path);
-            Files.write(path, context);
-        } catch (Exception e) {
-            throw new RuntimeException("File was not created!", e);
-        }
+        Path path = Path.of(folder, FilenameUtils.getName(tempFilename));
+        TemplateFiles.writeLines(path, context);
         return path.toFile();
     }
 }
@@ -16,14 +16,15 @@
 
 package platform.qa.files;
 
-import static platform.qa.files.SearchText.searchTextByRegExp;
-
 import platform.qa.constants.Naming;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import com.github.javafaker.Faker;
 
@@ -38,7 +39,7 @@ public class TestDataUtils {
         Map<String, Map<String, String>> processesDataMap = new HashMap<>();
 
         if (!bpmnFiles.isEmpty()) {
-            bpmnFiles.forEach(fileName -> processesDataMap.put(fileName, getProcessData(fileName)));
+            bpmnFiles.forEach(fileName -> processesDataMap.put(fileName, readProcessData(fileName)));
         }
 
         return processesDataMap;
@@ -51,30 +52,57 @@ public class TestDataUtils {
      * @return the map with processId and processName values
      */
     public static Map getProcessData(String bpmnFileName) {
-        Map<String, String> processesDataMap = new HashMap<>();
+        return readProcessData(bpmnFileName);
+    }
 
-        TestDataClient testDataClient = new TestDataClient()
-                .setFolder("files/bpmn");
+    /**
+     * Searches for processId and processName values in the list of provided bpmn files in parallel.
+     *
+     * @param bpmnFiles - the list with bpmn file's names
+     * @return the map of file name to the map with processId and processName values
+     */
+    public static Map<String, Map<String, String>> getProcessDataInParallel(List<String> bpmnFiles) {
+        return bpmnFiles.parallelStream()
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), TestDataUtils::readProcessData));
+    }
+
+    /**
+     * Reads all processes defined in given bpmn file.
+     *
+     * @param bpmnFileName - the string of file name with stored information about business processes
+     * @return the list of {@link BpmnProcess} in order of appearance
+     */
+    public static List<BpmnProcess> getProcesses(String bpmnFileName) {
+        return BpmnMetadataReader.readProcesses(getBpmnPath(bpmnFileName));
+    }
+
+    private static Map<String, String> readProcessData(String bpmnFileName) {
+        Map<String, String> processesDataMap = new HashMap<>();
 
         if (!StringUtils.isEmpty(bpmnFileName)) {
-            List<String> fileData = testDataClient.readUpdatedFile(bpmnFileName);
-            String processData = searchTextByRegExp(String.join("\n", fileData), "bpmn:process.*\\\"");
-            String processId = searchTextByRegExp(processData, "(?<=process id=\\\").+?(?=\\\")");
-            String processName = searchTextByRegExp(processData, "(?<=name=\\\").+?(?=\\\")");
+            BpmnProcess process = BpmnMetadataReader.readFirstProcess(getBpmnPath(bpmnFileName))
+                    .orElse(new BpmnProcess("", "", false));
 
-            processesDataMap.putAll(Map.of("processId", processId, "processName", processName));
+            processesDataMap.putAll(Map.of("processId", process.getId(), "processName", process.getName()));
         }
 
         return processesDataMap;
     }
 
+    private static Path getBpmnPath(String bpmnFileName) {
+        TestDataClient testDataClient = new TestDataClient()
+                .setFolder("files/bpmn");
+        return Path.of(testDataClient.getRootPath() + testDataClient.getFolder(), FilenameUtils.getName(bpmnFileName));
+    }
+
     /**
      * @param formName
      * @param formFile
      * @return updated file with form data change form key
      */
     public static List<String> getUpdatedFormFile(String formName, String formFile) {
-        Faker faker = new Faker(new Locale("uk-UA"));
+        Faker faker = FixtureFactory.faker();
         var dataClient = new TestDataClient()
                 .setId(Naming.getFormKey())
                 .setName(formName
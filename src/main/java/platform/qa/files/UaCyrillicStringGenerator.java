@@ -1,25 +1,138 @@
 package platform.qa.files;
 
-import java.util.Random;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class UaCyrillicStringGenerator {
 
-    private static final String charset = "абвгдеєжзиіїйклмнопрстуфхцчшщьюя";
-    private static final Random random = new Random();
+    private static final char[] charset = "абвгдеєжзиіїйклмнопрстуфхцчшщьюя".toCharArray();
+
+    private final SplittableRandom random;
+
+    private UaCyrillicStringGenerator(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
 
     /**
      * Generates a random Ukrainian Cyrillic string of the specified length.
      *
-     * @param length the length of the generated string.
+     * @param length - the length of the generated string.
      * @return the generated string.
      */
     public static String generate(int length) {
-        return IntStream.range(0, length)
-                .map(i -> random.nextInt(charset.length()))
-                .mapToObj(index -> String.valueOf(charset.charAt(index)))
-                .collect(Collectors.joining());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return fill(length, random::nextInt);
+    }
+
+    /**
+     * Generates random Ukrainian Cyrillic strings with lengths in the given range.
+     *
+     * @param count     - the number of strings to generate.
+     * @param minLength - the minimum length, inclusive.
+     * @param maxLength - the maximum length, inclusive.
+     * @return the list of generated strings.
+     */
+    public static List<String> generate(int count, int minLength, int maxLength) {
+        checkRange(minLength, maxLength);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            strings.add(fill(random.nextInt(minLength, maxLength + 1), random::nextInt));
+        }
+        return strings;
+    }
+
+    /**
+     * Supplies an infinite stream of random Ukrainian Cyrillic strings, it can be consumed in parallel.
+     *
+     * @param minLength - the minimum length, inclusive.
+     * @param maxLength - the maximum length, inclusive.
+     * @return the stream of generated strings.
+     */
+    public static Stream<String> stream(int minLength, int maxLength) {
+        checkRange(minLength, maxLength);
+        return Stream.generate(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return fill(random.nextInt(minLength, maxLength + 1), random::nextInt);
+        });
+    }
+
+    /**
+     * Creates a generator producing the same sequence of strings for the same seed.
+     * The returned generator is not thread-safe.
+     *
+     * @param seed - the seed of the sequence.
+     * @return the reproducible generator.
+     */
+    public static UaCyrillicStringGenerator withSeed(long seed) {
+        return new UaCyrillicStringGenerator(seed);
     }
 
+    /**
+     * Generates the next string of the reproducible sequence.
+     *
+     * @param length - the length of the generated string.
+     * @return the generated string.
+     */
+    public String next(int length) {
+        return fill(length, random::nextInt);
+    }
+
+    /**
+     * Generates the next string of the reproducible sequence with length in the given range.
+     *
+     * @param minLength - the minimum length, inclusive.
+     * @param maxLength - the maximum length, inclusive.
+     * @return the generated string.
+     */
+    public String next(int minLength, int maxLength) {
+        checkRange(minLength, maxLength);
+        return fill(random.nextInt(minLength, maxLength + 1), random::nextInt);
+    }
+
+    /**
+     * Supplies an infinite ordered stream of the reproducible sequence. Strings are always generated by one
+     * thread at a time, so the stream keeps the sequence even if it is made parallel.
+     *
+     * @param minLength - the minimum length, inclusive.
+     * @param maxLength - the maximum length, inclusive.
+     * @return the stream of generated strings.
+     */
+    public Stream<String> sequence(int minLength, int maxLength) {
+        checkRange(minLength, maxLength);
+        Iterator<String> strings = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public String next() {
+                return UaCyrillicStringGenerator.this.next(minLength, maxLength);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(strings, Spliterator.ORDERED), false);
+    }
+
+    private static String fill(int length, IntUnaryOperator nextInt) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = charset[nextInt.applyAsInt(charset.length)];
+        }
+        return new String(chars);
+    }
+
+    private static void checkRange(int minLength, int maxLength) {
+        if (minLength < 0 || maxLength < minLength) {
+            throw new IllegalArgumentException("Invalid length range: " + minLength + ".." + maxLength);
+        }
+    }
 }
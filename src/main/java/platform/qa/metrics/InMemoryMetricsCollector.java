@@ -0,0 +1,204 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.metrics;
+
+import lombok.Value;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe {@link MetricsListener} keeping counters and log2-bucketed latency histograms in memory.
+ */
+public class InMemoryMetricsCollector implements MetricsListener {
+
+    private static final ConcurrentMap<String, LongAdder> EMPTY_COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Histogram> EMPTY_TIMERS = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, ConcurrentMap<String, LongAdder>> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, Histogram>> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(String metric, String key, long amount) {
+        counters.computeIfAbsent(metric, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, name -> new LongAdder())
+                .add(amount);
+    }
+
+    @Override
+    public void recordNanos(String metric, String key, long nanos) {
+        timers.computeIfAbsent(metric, name -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, name -> new Histogram())
+                .record(nanos);
+    }
+
+    /**
+     * @param metric - the name of metric
+     * @param key    - the file, placeholder or pattern
+     * @return the counter value, 0 when nothing was recorded
+     */
+    public long getCount(String metric, String key) {
+        LongAdder counter = counters.getOrDefault(metric, EMPTY_COUNTERS).get(key);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * @param metric - the name of metric
+     * @return the sum of counter values of all keys
+     */
+    public long getCount(String metric) {
+        return counters.getOrDefault(metric, EMPTY_COUNTERS).values().stream()
+                .mapToLong(LongAdder::sum)
+                .sum();
+    }
+
+    /**
+     * @param metric - the name of metric
+     * @return counter values by key, sorted by key
+     */
+    public Map<String, Long> getCounts(String metric) {
+        Map<String, Long> values = new TreeMap<>();
+        counters.getOrDefault(metric, EMPTY_COUNTERS)
+                .forEach((key, counter) -> values.put(key, counter.sum()));
+        return values;
+    }
+
+    /**
+     * @param metric - the name of metric
+     * @param key    - the file, placeholder or pattern
+     * @return the snapshot of recorded timings, empty when nothing was recorded
+     */
+    public TimerSnapshot getTimer(String metric, String key) {
+        Histogram histogram = timers.getOrDefault(metric, EMPTY_TIMERS).get(key);
+        return histogram == null ? new Histogram().snapshot() : histogram.snapshot();
+    }
+
+    /**
+     * @param metric - the name of metric
+     * @return the snapshot of timings of all keys together
+     */
+    public TimerSnapshot getTimer(String metric) {
+        Histogram total = new Histogram();
+        timers.getOrDefault(metric, EMPTY_TIMERS).values().forEach(total::add);
+        return total.snapshot();
+    }
+
+    public void reset() {
+        counters.clear();
+        timers.clear();
+    }
+
+    /**
+     * Formats all metrics: counter totals with the top keys, and latency percentiles of every timer.
+     *
+     * @return the multi-line summary
+     */
+    public String summary() {
+        StringBuilder out = new StringBuilder("Metrics summary");
+        new TreeMap<>(counters).forEach((metric, values) -> {
+            out.append(System.lineSeparator()).append(metric).append(": ").append(getCount(metric));
+            getCounts(metric).entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .limit(10)
+                    .forEach(entry -> out.append(System.lineSeparator())
+                            .append("    ").append(entry.getKey()).append(": ").append(entry.getValue()));
+        });
+        new TreeMap<>(timers).forEach((metric, values) -> {
+            out.append(System.lineSeparator()).append(metric).append(": ").append(getTimer(metric));
+            new TreeMap<>(values).forEach((key, histogram) -> out.append(System.lineSeparator())
+                    .append("    ").append(key).append(": ").append(histogram.snapshot()));
+        });
+        return out.toString();
+    }
+
+    /**
+     * Recorded timings: percentiles are upper bounds of power-of-two buckets, so they are accurate
+     * within a factor of two.
+     */
+    @Value
+    public static class TimerSnapshot {
+        long count;
+        long totalNanos;
+        long maxNanos;
+        long p50Nanos;
+        long p95Nanos;
+        long p99Nanos;
+
+        @Override
+        public String toString() {
+            return "count=" + count
+                    + ", total=" + TimeUnit.NANOSECONDS.toMillis(totalNanos) + "ms"
+                    + ", p50<=" + TimeUnit.NANOSECONDS.toMicros(p50Nanos) + "us"
+                    + ", p95<=" + TimeUnit.NANOSECONDS.toMicros(p95Nanos) + "us"
+                    + ", p99<=" + TimeUnit.NANOSECONDS.toMicros(p99Nanos) + "us"
+                    + ", max=" + TimeUnit.NANOSECONDS.toMicros(maxNanos) + "us";
+        }
+    }
+
+    private static final class Histogram {
+        private static final int BUCKETS = 64;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            long value = Math.max(nanos, 0);
+            buckets.incrementAndGet(Math.max(0, BUCKETS - 1 - Long.numberOfLeadingZeros(value)));
+            total.add(value);
+            max.accumulate(value);
+        }
+
+        void add(Histogram other) {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.addAndGet(i, other.buckets.get(i));
+            }
+            total.add(other.total.sum());
+            max.accumulate(other.max.get());
+        }
+
+        TimerSnapshot snapshot() {
+            long[] values = new long[BUCKETS];
+            long recorded = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                values[i] = buckets.get(i);
+                recorded += values[i];
+            }
+            long maxNanos = max.get();
+            return new TimerSnapshot(recorded, total.sum(), maxNanos, percentile(values, recorded, 0.50, maxNanos),
+                    percentile(values, recorded, 0.95, maxNanos), percentile(values, recorded, 0.99, maxNanos));
+        }
+
+        private static long percentile(long[] values, long recorded, double percentile, long maxNanos) {
+            long rank = (long) Math.ceil(recorded * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += values[i];
+                if (seen >= rank && seen > 0) {
+                    return i >= 62 ? maxNanos : Math.min((1L << (i + 1)) - 1, maxNanos);
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.metrics;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Holder of the listener receiving metrics of {@code TestDataClient}, {@code FileUtils} and {@code SearchText}.
+ * <p>
+ * Metrics are disabled by default: recording methods then cost a single volatile read, and values that are
+ * expensive to collect are not computed at all. Enable them for a test run with {@link #enableInMemory()} and
+ * print {@link InMemoryMetricsCollector#summary()} at the end of it, i.e. from a JUnit {@code @AfterAll} method.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Metrics {
+
+    public static final String BYTES_READ = "bytes.read";
+    public static final String BYTES_WRITTEN = "bytes.written";
+    public static final String LINES_READ = "lines.read";
+    public static final String LINES_WRITTEN = "lines.written";
+    public static final String SUBSTITUTIONS = "placeholder.substitutions";
+    public static final String FILE_REWRITE_TIME = "file.rewrite.time";
+    public static final String CSV_ROWS_PARSED = "csv.rows.parsed";
+    public static final String REGEX_EVALUATIONS = "regex.evaluations";
+    public static final String REGEX_TIME = "regex.time";
+
+    private static volatile MetricsListener listener = MetricsListener.NOOP;
+
+    public static MetricsListener getListener() {
+        return listener;
+    }
+
+    /**
+     * @param metricsListener - the listener to report to, or null to disable metrics
+     */
+    public static void setListener(MetricsListener metricsListener) {
+        listener = metricsListener == null ? MetricsListener.NOOP : metricsListener;
+    }
+
+    /**
+     * Starts collecting metrics in memory, replacing the current listener.
+     *
+     * @return the new collector
+     */
+    public static InMemoryMetricsCollector enableInMemory() {
+        InMemoryMetricsCollector collector = new InMemoryMetricsCollector();
+        setListener(collector);
+        return collector;
+    }
+
+    public static void disable() {
+        setListener(null);
+    }
+
+    public static boolean isEnabled() {
+        return listener != MetricsListener.NOOP;
+    }
+
+    public static void increment(String metric, String key, long amount) {
+        MetricsListener current = listener;
+        if (current != MetricsListener.NOOP) {
+            current.increment(metric, key, amount);
+        }
+    }
+
+    /**
+     * @return the start time for {@link #recordSince(String, String, long)}, or 0 when metrics are disabled
+     */
+    public static long startTimer() {
+        return isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time elapsed since the start time, unless metrics were disabled when the timer was started.
+     *
+     * @param metric - the name of metric
+     * @param key    - the file, placeholder or pattern the value belongs to
+     * @param start  - the value returned by {@link #startTimer()}
+     */
+    public static void recordSince(String metric, String key, long start) {
+        MetricsListener current = listener;
+        if (start != 0L && current != MetricsListener.NOOP) {
+            current.recordNanos(metric, key, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022 EPAM Systems.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package platform.qa.metrics;
+
+/**
+ * Receives counters and timings recorded by the library, see {@link Metrics} for metric names.
+ * Methods are called from any thread and should not block.
+ */
+public interface MetricsListener {
+
+    /**
+     * The listener that ignores everything, used while metrics are disabled.
+     */
+    MetricsListener NOOP = new MetricsListener() {
+    };
+
+    /**
+     * @param metric - the name of metric, e.g. {@link Metrics#BYTES_READ}
+     * @param key    - the file, placeholder or pattern the value belongs to
+     * @param amount - the amount to add
+     */
+    default void increment(String metric, String key, long amount) {
+    }
+
+    /**
+     * @param metric - the name of metric, e.g. {@link Metrics#FILE_REWRITE_TIME}
+     * @param key    - the file, placeholder or pattern the value belongs to
+     * @param nanos  - the duration in nanoseconds
+     */
+    default void recordNanos(String metric, String key, long nanos) {
+    }
+}
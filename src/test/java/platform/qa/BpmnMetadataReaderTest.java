@@ -0,0 +1,50 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import platform.qa.files.BpmnMetadataReader;
+import platform.qa.files.BpmnProcess;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BpmnMetadataReaderTest {
+
+    private static final String BPMN = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<bpmn:definitions xmlns:bpmn=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" id=\"Definitions_1\">\n"
+            + "  <bpmn:collaboration id=\"Collaboration_1\"/>\n"
+            + "  <bpmn:process isExecutable=\"true\" name=\"Перший процес\"\n"
+            + "      id=\"Process_first\">\n"
+            + "    <bpmn:startEvent id=\"StartEvent_1\" name=\"start\"/>\n"
+            + "  </bpmn:process>\n"
+            + "  <bpmn:process id=\"Process_second\" name=\"Second\" isExecutable=\"false\"/>\n"
+            + "</bpmn:definitions>\n";
+
+    @TempDir
+    Path root;
+
+    @Test
+    void readProcessesRegardlessOfAttributeOrder() throws IOException {
+        Path file = Files.writeString(root.resolve("process.bpmn"), BPMN);
+
+        assertThat(BpmnMetadataReader.readFirstProcess(file))
+                .contains(new BpmnProcess("Process_first", "Перший процес", true));
+        assertThat(BpmnMetadataReader.readProcesses(file)).containsExactly(
+                new BpmnProcess("Process_first", "Перший процес", true),
+                new BpmnProcess("Process_second", "Second", false));
+    }
+
+    @Test
+    void returnProcessesReadBeforeMalformedPart() throws IOException {
+        Path truncated = Files.writeString(root.resolve("truncated.bpmn"), BPMN.substring(0, BPMN.indexOf("Second")));
+        Path templated = Files.writeString(root.resolve("templated.bpmn"), BPMN.replace("id=\"Definitions_1\"",
+                "id=${definitionsId}"));
+
+        assertThat(BpmnMetadataReader.readProcesses(truncated))
+                .containsExactly(new BpmnProcess("Process_first", "Перший процес", true));
+        assertThat(BpmnMetadataReader.readFirstProcess(templated)).isEmpty();
+    }
+}
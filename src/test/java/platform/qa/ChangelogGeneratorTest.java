@@ -0,0 +1,77 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import platform.qa.files.ChangelogGenerator;
+import platform.qa.files.SearchText;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Document;
+
+class ChangelogGeneratorTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void rollChangeSetsWithUniqueTableNames() throws Exception {
+        Files.writeString(root.resolve("table.xml"),
+                "    <changeSet id=\"table-PLACEHOLDER_CHANGESET_INDEX\" author=\"PLACEHOLDER_AUTHOR\">\n"
+                        + "        <createTable tableName=\"PLACEHOLDER_TABLE\"/>\n"
+                        + "    </changeSet>\n");
+
+        List<File> files = new ChangelogGenerator()
+                .setRootPath(root.toString())
+                .setFolder("")
+                .setTemplate("table.xml")
+                .setPatternToReplace("PLACEHOLDER_AUTHOR", "autotest")
+                .setPatternToReplace("PLACEHOLDER_TABLE", "any")
+                .setChangeSetCount(25)
+                .setChangeSetsPerFile(10)
+                .setOutputFolder(root.resolve("changelogs").toString())
+                .setMasterChangelog(true)
+                .generate();
+
+        assertThat(files).extracting(File::getName).containsExactly(
+                "main-liquibase-00001.xml", "main-liquibase-00002.xml", "main-liquibase-00003.xml",
+                "main-liquibase.xml");
+        String content = files.subList(0, 3).stream().map(this::readAndValidate).collect(Collectors.joining());
+        assertThat(SearchText.findAll(content, "tableName=\"auto_\\w+\"")).hasSize(25).doesNotHaveDuplicates();
+        assertThat(content).contains("id=\"table-25\" author=\"autotest\"").doesNotContain("PLACEHOLDER");
+        assertThat(readAndValidate(files.get(3))).contains("<include file=\"main-liquibase-00003.xml\"");
+    }
+
+    @Test
+    void rejectChangelogTemplateWithoutClosingElement() throws Exception {
+        Files.writeString(root.resolve("changelog.xml"), "<databaseChangeLog xmlns=\"http://www.liquibase.org\"/>");
+
+        ChangelogGenerator generator = new ChangelogGenerator()
+                .setRootPath(root.toString())
+                .setFolder("")
+                .setTemplate("changelog.xml")
+                .setOutputFolder(root.toString());
+
+        assertThatThrownBy(generator::generate)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("</databaseChangeLog>");
+    }
+
+    private String readAndValidate(File file) {
+        try {
+            Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file);
+            assertThat(document.getDocumentElement().getTagName()).isEqualTo("databaseChangeLog");
+            return Files.readString(file.toPath(), StandardCharsets.UTF_8);
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+}
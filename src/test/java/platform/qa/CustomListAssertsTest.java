@@ -0,0 +1,68 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import platform.qa.asserts.CustomListAsserts;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class CustomListAssertsTest {
+
+    @Test
+    void reportFirstOffendingIndex() {
+        List<String> list = List.of("Антон", "Богдан", "Ярослав", "Віктор", "Аліна");
+
+        assertThatThrownBy(() -> CustomListAsserts.assertAlphabeticSorting(list))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("[3] \"Віктор\"");
+        CustomListAsserts.assertAlphabeticReverseSorting(List.of("Ярослав", "Віктор", "Богдан", "Аліна"));
+    }
+
+    @Test
+    void checkDatesWithoutMutatingInput() {
+        List<String> dates = new ArrayList<>(List.of("17.12.2020 10:00", "16.12.2020 19:36", "01.01.2019 00:00"));
+
+        CustomListAsserts.assertDateReverseSorting(dates);
+        assertThatThrownBy(() -> CustomListAsserts.assertDateSorting(dates))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("[1] \"16.12.2020 19:36\"");
+        assertThat(dates).containsExactly("17.12.2020 10:00", "16.12.2020 19:36", "01.01.2019 00:00");
+    }
+
+    @Test
+    void checkPagesLazilyUntilFirstViolation() {
+        AtomicInteger requestedPages = new AtomicInteger();
+        Iterator<Integer> values = CustomListAsserts.pages(() -> {
+            int page = requestedPages.getAndIncrement();
+            return page == 2 ? List.of(5, 1) : IntStream.range(0, 3).boxed().collect(Collectors.toList());
+        });
+
+        assertThatThrownBy(() -> CustomListAsserts.assertSorting(values))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("[3] \"0\"");
+        assertThat(requestedPages).hasValue(2);
+    }
+
+    @Test
+    void countAndCheckUniquenessOfStreams() {
+        CustomListAsserts.assertSize(3, Stream.of("a", "b", "c"));
+        CustomListAsserts.assertUniqueness(Stream.of("a", "b", "c"));
+        assertThatThrownBy(() -> CustomListAsserts.assertSize(2, Stream.generate(() -> "a")))
+                .isInstanceOf(AssertionError.class);
+        AtomicBoolean closed = new AtomicBoolean();
+        assertThatThrownBy(() -> CustomListAsserts.assertUniqueness(Stream.of("a", "b", "a")
+                .onClose(() -> closed.set(true))))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("[2] \"a\"");
+        assertThat(closed).isTrue();
+    }
+}
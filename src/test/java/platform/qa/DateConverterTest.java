@@ -0,0 +1,74 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import platform.qa.date.DateConverter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class DateConverterTest {
+
+    @Test
+    void parseDateOnlyPatternToStartOfDay() {
+        assertThat(DateConverter.parseDateTimes(List.of("05.07.2022", "31.12.2021"), "dd.MM.yyyy", true))
+                .containsExactly(LocalDateTime.of(2022, 7, 5, 0, 0), LocalDateTime.of(2021, 12, 31, 0, 0));
+        assertThat(DateConverter.getFormatter("dd.MM.yyyy")).isSameAs(DateConverter.getFormatter("dd.MM.yyyy"));
+    }
+
+    @Test
+    void reportAllFailuresInStrictMode() {
+        List<String> dates = List.of("05.07.2022 08:52", "bad", "05.07.2022 25:00");
+
+        assertThatThrownBy(() -> DateConverter.parseDateTimes(dates, "dd.MM.yyyy HH:mm", true))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2 of 3 dates")
+                .hasMessageContaining("[1] \"bad\"")
+                .hasMessageContaining("[2] \"05.07.2022 25:00\"");
+        assertThat(DateConverter.parseDateTimes(dates, "dd.MM.yyyy HH:mm", false)).hasSize(3)
+                .startsWith(LocalDateTime.of(2022, 7, 5, 8, 52));
+    }
+
+    @Test
+    void strictStreamFailsWithSameExceptionAsList() {
+        Stream<LocalDateTime> dates = DateConverter.parseDateTimes(Stream.of("05.07.2022", "bad"), "dd.MM.yyyy", true);
+
+        assertThatThrownBy(() -> dates.collect(Collectors.toList()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("\"bad\"");
+    }
+
+    @Test
+    void currentDateTimeIsTruncatedToPatternPrecision() {
+        LocalDateTime minutes = DateConverter.getCurrentDateTime("dd.MM.yyyy HH:mm");
+        assertThat(minutes.getSecond()).isZero();
+        assertThat(minutes.getNano()).isZero();
+        assertThat(DateConverter.getCurrentDateTime("yyyy-MM-dd'T'HH:mm:ss.SSS").getNano() % 1_000_000).isZero();
+        assertThat(DateConverter.getCurrentDateTime("dd.MM.yyyy")).isEqualTo(LocalDateTime.now().toLocalDate()
+                .atStartOfDay());
+    }
+
+    @Test
+    void legacyConversionKeepsLenientParsing() {
+        assertThat(DateConverter.convertDateTimeByPattern("2022-07-05T08:52:11.635Z", "yyyy-MM-dd"))
+                .isEqualTo(toDate(LocalDateTime.of(2022, 7, 5, 0, 0)));
+        assertThat(DateConverter.convertDateTimeByPattern("5.7.2022", "dd.MM.yyyy"))
+                .isEqualTo(toDate(LocalDateTime.of(2022, 7, 5, 0, 0)));
+        assertThat(DateConverter.convertDateTimeByPattern("05.07.2022 25:00", "dd.MM.yyyy HH:mm"))
+                .isEqualTo(toDate(LocalDateTime.of(2022, 7, 6, 1, 0)));
+        assertThat(DateConverter.convertDateTimeByPattern("05.07.2022 08:52:11", "dd.MM.yyyy HH:mm"))
+                .isEqualTo(toDate(LocalDateTime.of(2022, 7, 5, 8, 52)));
+        assertThat(DateConverter.convertCurrentDateTimeByPattern("yyyy"))
+                .isEqualTo(toDate(LocalDateTime.now().toLocalDate().withDayOfYear(1).atStartOfDay()));
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
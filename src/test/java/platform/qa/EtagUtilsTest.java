@@ -0,0 +1,55 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import platform.qa.content.EtagUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import com.google.common.hash.Hashing;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EtagUtilsTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void sameContentHasSameETagFromEverySource() throws IOException {
+        String content = StringUtils.repeat("{\"документ\": \"вміст\"}\n", 10000);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        Path file = Files.write(root.resolve("large.json"), bytes);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+        String etag = EtagUtils.getETag(content, false);
+
+        assertThat(etag).matches("\"[0-9a-f]{32}\"");
+        assertThat(EtagUtils.getETag(new ByteArrayInputStream(bytes), false)).isEqualTo(etag);
+        assertThat(EtagUtils.getETag(buffer, false)).isEqualTo(etag);
+        assertThat(buffer.position()).isZero();
+        assertThat(EtagUtils.getETag(file, false)).isEqualTo(etag);
+        assertThat(EtagUtils.getETag(file, Hashing.sha256(), false)).matches("\"[0-9a-f]{64}\"");
+    }
+
+    @Test
+    void hashFilesInParallelAndCompareWeakly() throws IOException {
+        Path first = Files.writeString(root.resolve("first.txt"), "one");
+        Path second = Files.writeString(root.resolve("second.txt"), "two");
+
+        Map<Path, String> etags = EtagUtils.getETags(List.of(second, first), true);
+
+        assertThat(etags).containsOnlyKeys(second, first);
+        assertThat(etags.keySet()).containsExactly(second, first);
+        assertThat(etags.get(first)).startsWith("W/").isNotEqualTo(etags.get(second));
+        assertThat(EtagUtils.matches(etags.get(first), EtagUtils.getETag(first, false), true)).isTrue();
+        assertThat(EtagUtils.matches(etags.get(first), EtagUtils.getETag(first, false), false)).isFalse();
+    }
+}
@@ -0,0 +1,111 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import platform.qa.files.CsvRowError;
+import platform.qa.files.CsvWriteOptions;
+import platform.qa.files.FileUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileUtilsTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void streamCsvFileReportsBrokenRows() throws IOException {
+        File csvFile = Files.writeString(root.resolve("people.csv"),
+                "name;age\n# comment\nОлена;31\nПетро;x\nІван;45\n").toFile();
+        List<CsvRowError> errors = new ArrayList<>();
+
+        List<Person> people;
+        try (Stream<Person> rows = FileUtils.streamCsvFile(csvFile, ';', Person.class, errors::add)) {
+            people = rows.collect(Collectors.toList());
+        }
+
+        assertThat(people).extracting(Person::getName).containsExactly("Олена", "Іван");
+        assertThat(errors).singleElement().extracting(CsvRowError::getLine).isEqualTo(4L);
+    }
+
+    @Test
+    void readCsvFileInParallelKeepsFileOrder() throws IOException {
+        StringBuilder content = new StringBuilder("name,age\n");
+        for (int i = 0; i < 10_000; i++) {
+            content.append("name").append(i).append(',').append(i % 7 == 0 ? "bad" : String.valueOf(i)).append('\n');
+        }
+        File csvFile = Files.writeString(root.resolve("large.csv"), content).toFile();
+        List<CsvRowError> errors = Collections.synchronizedList(new ArrayList<>());
+
+        List<Person> people = FileUtils.readCsvFileInParallel(csvFile, ',', Person.class, 500, errors::add);
+
+        assertThat(errors).hasSize(1429);
+        assertThat(people).hasSize(10_000 - 1429);
+        assertThat(people).extracting(Person::getAge).isSorted();
+    }
+
+    @Test
+    void writeCsvFileRollsByRowCount() throws IOException {
+        File csvFile = root.resolve("generated.csv").toFile();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Person> rows = IntStream.range(0, 2500).mapToObj(i -> new Person("Особа " + i, i))
+                .onClose(() -> closed.set(true));
+
+        List<File> files = FileUtils.writeCsvFile(csvFile, Person.class, rows,
+                CsvWriteOptions.builder().rowsPerFile(1000).build());
+
+        assertThat(closed).isTrue();
+        assertThat(files).extracting(File::getName)
+                .containsExactly("generated-00001.csv", "generated-00002.csv", "generated-00003.csv");
+        assertThat(FileUtils.readCsvFile(files.get(2), Person.class))
+                .containsExactly(IntStream.range(2000, 2500).mapToObj(i -> new Person("Особа " + i, i))
+                        .toArray(Person[]::new));
+
+        File gzipFile = FileUtils.writeCsvFile(csvFile, Person.class, Stream.of(new Person("Ivan", 1)),
+                CsvWriteOptions.builder().gzip(true).separator(';').build()).get(0);
+        try (InputStream input = new GZIPInputStream(new FileInputStream(gzipFile))) {
+            assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("name;age\nIvan;1\n");
+        }
+    }
+
+    @Test
+    void asyncWriteAndReadCanBeComposed() {
+        File csvFile = root.resolve("async.csv").toFile();
+        Stream<Person> rows = IntStream.range(0, 100).mapToObj(i -> new Person("Особа " + i, i));
+
+        List<Person> people = FileUtils.writeCsvFileAsync(csvFile, Person.class, rows, CsvWriteOptions.DEFAULT)
+                .thenCompose(files -> FileUtils.readCsvFileAsync(files.get(0), ',', Person.class))
+                .join();
+
+        assertThat(people).hasSize(100).extracting(Person::getAge).isSorted();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonPropertyOrder({"name", "age"})
+    public static class Person {
+        private String name;
+        private int age;
+    }
+}
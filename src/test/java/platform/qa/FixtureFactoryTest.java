@@ -0,0 +1,54 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import platform.qa.files.Fixture;
+import platform.qa.files.FixtureFactory;
+import platform.qa.files.FixtureType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FixtureFactoryTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void createUniquelyKeyedFormsAndWriteThemToFormsFolder() throws IOException {
+        Path template = Files.writeString(root.resolve("form.json"),
+                "{\"id\": \"PLACEHOLDER_ID\", \"name\": \"PLACEHOLDER_PATH\", \"title\": \"PLACEHOLDER_NAME\"}");
+
+        List<Fixture> forms = FixtureFactory.create(FixtureType.FORM, template, "Форма", 500);
+
+        assertThat(forms).hasSize(500).extracting(Fixture::getKey).doesNotHaveDuplicates();
+        assertThat(forms).allSatisfy(form -> assertThat(form.getContent())
+                .contains("\"name\": \"" + form.getKey() + "\"", "\"title\": \"Форма ")
+                .doesNotContain("PLACEHOLDER"));
+
+        List<Path> files = FixtureFactory.write(forms.subList(0, 3), root.resolve("registry"));
+
+        assertThat(files).containsExactly(
+                root.resolve("registry/forms/" + forms.get(0).getKey() + ".json"),
+                root.resolve("registry/forms/" + forms.get(1).getKey() + ".json"),
+                root.resolve("registry/forms/" + forms.get(2).getKey() + ".json"));
+        assertThat(files.get(0)).usingCharset(StandardCharsets.UTF_8).hasContent(forms.get(0).getContent());
+    }
+
+    @Test
+    void createDecisionTablesWithUniqueKeys() throws IOException {
+        Path template = Files.writeString(root.resolve("rule.dmn"),
+                "<decision id=\"PLACEHOLDER_DMN_KEY\" name=\"PLACEHOLDER_NAME\"/>");
+
+        List<Fixture> decisions = FixtureFactory.create(FixtureType.DECISION, template, "Правило", 3);
+
+        assertThat(decisions).extracting(Fixture::getFileName)
+                .allMatch(name -> name.matches("AUTOValidationRule\\w+\\.dmn"))
+                .doesNotHaveDuplicates();
+    }
+}
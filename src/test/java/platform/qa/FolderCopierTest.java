@@ -0,0 +1,85 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import platform.qa.files.FolderCopier;
+import platform.qa.files.FolderCopyOptions;
+import platform.qa.files.Folders;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FolderCopierTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void copyRegulationFoldersAndSkipUnchangedFiles() throws IOException {
+        Path regulation = root.resolve("regulation");
+        Files.createDirectories(regulation.resolve("bpmn/nested"));
+        Files.createDirectories(regulation.resolve("forms"));
+        Files.writeString(regulation.resolve("bpmn/process.bpmn"), "<process/>");
+        Files.writeString(regulation.resolve("bpmn/nested/sub.bpmn"), "<sub/>");
+        Files.writeString(regulation.resolve("forms/form.json"), "{}");
+        Path target = root.resolve("target");
+
+        Map<String, String> names = FolderCopier.copyRegulation(regulation, target, FolderCopyOptions.DEFAULT,
+                Folders.BPMN_FOLDER, Folders.DMN_FOLDER, Folders.FORMS_FOLDER);
+
+        assertThat(names).containsExactly(
+                Map.entry("bpmn/nested/sub.bpmn", "bpmn/nested/sub.bpmn"),
+                Map.entry("bpmn/process.bpmn", "bpmn/process.bpmn"),
+                Map.entry("forms/form.json", "forms/form.json"));
+        assertThat(target.resolve("bpmn/nested/sub.bpmn")).hasContent("<sub/>");
+
+        Path copied = target.resolve("forms/form.json");
+        Files.writeString(copied, "[]");
+        Files.setLastModifiedTime(copied, Files.getLastModifiedTime(regulation.resolve("forms/form.json")));
+        FolderCopier.copy(regulation.resolve("forms"), target.resolve("forms"), FolderCopyOptions.DEFAULT);
+        assertThat(copied).hasContent("[]");
+
+        FolderCopier.copy(regulation.resolve("forms"), target.resolve("forms"), FolderCopyOptions.builder()
+                .changeDetection(FolderCopyOptions.ChangeDetection.HASH)
+                .build());
+        assertThat(copied).hasContent("{}");
+    }
+
+    @Test
+    void copyRegulationOnGivenExecutor() throws IOException {
+        Path regulation = root.resolve("regulation");
+        Files.createDirectories(regulation.resolve("dmn"));
+        Files.writeString(regulation.resolve("dmn/decision.dmn"), "<decision/>");
+        AtomicInteger tasks = new AtomicInteger();
+
+        Map<String, String> names = FolderCopier.copyRegulation(regulation, root.resolve("target"),
+                FolderCopyOptions.DEFAULT, task -> {
+                    tasks.incrementAndGet();
+                    task.run();
+                }, Folders.DMN_FOLDER);
+
+        assertThat(names).containsExactly(Map.entry("dmn/decision.dmn", "dmn/decision.dmn"));
+        assertThat(tasks).hasValue(1);
+    }
+
+    @Test
+    void flattenWithRandomPrefix() throws IOException {
+        Files.createDirectories(root.resolve("forms/a"));
+        Files.createDirectories(root.resolve("forms/b"));
+        Files.writeString(root.resolve("forms/a/form.json"), "a");
+        Files.writeString(root.resolve("forms/b/form.json"), "b");
+        Path target = root.resolve("target");
+
+        Map<String, String> names = FolderCopier.copy(root.resolve("forms"), target,
+                FolderCopyOptions.builder().keepStructure(false).build());
+
+        assertThat(names).containsOnlyKeys("a/form.json", "b/form.json");
+        assertThat(names.values()).allMatch(name -> name.matches("[A-Za-z]{5}form\\.json"));
+        assertThat(target.resolve(names.get("b/form.json"))).hasContent("b");
+    }
+}
@@ -0,0 +1,61 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import platform.qa.files.MappedFiles;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedFilesTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void mapLargeFilesAndReadSmallFilesToHeap() throws IOException {
+        Path small = Files.writeString(root.resolve("small.xml"), "<changeSet id=\"1\"/>");
+        Path large = Files.writeString(root.resolve("large.xml"), StringUtils.repeat("<змінa id=\"1\"/>\n", 10000));
+
+        ByteBuffer smallView = MappedFiles.map(small);
+        ByteBuffer largeView = MappedFiles.map(large);
+
+        assertThat(smallView.isReadOnly()).isTrue();
+        assertThat(smallView).isNotInstanceOf(MappedByteBuffer.class);
+        assertThat(largeView.isReadOnly()).isTrue();
+        assertThat(largeView).isInstanceOf(MappedByteBuffer.class);
+        assertThat(MappedFiles.decode(large).toString()).isEqualTo(Files.readString(large, StandardCharsets.UTF_8));
+        assertThat(MappedFiles.map(small, 11, 100)).isEqualTo(ByteBuffer.wrap("id=\"1\"/>".getBytes()));
+        assertThat(MappedFiles.map(small, Files.size(small), 100).remaining()).isZero();
+        assertThatThrownBy(() -> MappedFiles.map(small, Files.size(small) + 1, 100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("beyond the end");
+    }
+
+    @Test
+    void failOnMalformedUtf8() throws IOException {
+        Path malformed = Files.write(root.resolve("malformed.xml"), new byte[] {'<', (byte) 0xC3, '(', '>'});
+
+        assertThatThrownBy(() -> MappedFiles.decode(malformed))
+                .hasMessageContaining("File was not decoded!")
+                .hasCauseInstanceOf(MalformedInputException.class);
+    }
+
+    @Test
+    void copyWithTransferTo() throws IOException {
+        Path source = Files.write(root.resolve("document.p7s"), new byte[200_000]);
+        Path target = root.resolve("copy.p7s");
+
+        assertThat(MappedFiles.copy(source, target)).isEqualTo(200_000);
+        assertThat(target).hasSameBinaryContentAs(source);
+    }
+}
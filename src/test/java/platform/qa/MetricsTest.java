@@ -0,0 +1,93 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import platform.qa.files.SearchText;
+import platform.qa.files.TestDataClient;
+import platform.qa.metrics.InMemoryMetricsCollector;
+import platform.qa.metrics.Metrics;
+import platform.qa.metrics.MetricsListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MetricsTest {
+
+    @TempDir
+    Path root;
+
+    @AfterEach
+    void disableMetrics() {
+        Metrics.disable();
+    }
+
+    @Test
+    void collectFileAndPlaceholderMetrics() throws IOException {
+        InMemoryMetricsCollector collector = Metrics.enableInMemory();
+
+        updateFormAndSearch();
+
+        assertThat(collector.getCount(Metrics.SUBSTITUTIONS, "PLACEHOLDER_PATH")).isEqualTo(2);
+        assertThat(collector.getCount(Metrics.LINES_READ)).isEqualTo(2);
+        assertThat(collector.getCount(Metrics.LINES_WRITTEN)).isEqualTo(2);
+        assertThat(collector.getCount(Metrics.BYTES_WRITTEN)).isPositive();
+        assertThat(collector.getCount(Metrics.REGEX_EVALUATIONS, "sec\\w+")).isEqualTo(2);
+        assertThat(collector.getTimer(Metrics.FILE_REWRITE_TIME, "form.json").getCount()).isEqualTo(1);
+        assertThat(collector.summary()).contains(Metrics.SUBSTITUTIONS, "PLACEHOLDER_PATH: 2", "p99<=");
+
+        collector.reset();
+        List<String> lines = new TestDataClient()
+                .setRootPath(root.toString())
+                .setFolder("")
+                .setRegexReplacement(true)
+                .setPatternToReplace("PLACEHOLDER_\\w+", "form-key")
+                .readUpdatedFile("form.json");
+        assertThat(lines).containsExactly("{\"name\": \"form-key\",", "\"key\": \"form-key\"}");
+        assertThat(collector.getCount(Metrics.SUBSTITUTIONS, "PLACEHOLDER_\\w+")).isEqualTo(2);
+    }
+
+    @Test
+    void disabledMetricsAreNotRecorded() throws IOException {
+        InMemoryMetricsCollector collector = Metrics.enableInMemory();
+        Metrics.disable();
+
+        assertThat(Metrics.isEnabled()).isFalse();
+        assertThat(Metrics.getListener()).isSameAs(MetricsListener.NOOP);
+        assertThat(Metrics.startTimer()).isZero();
+
+        updateFormAndSearch();
+
+        assertThat(collector.getCount(Metrics.SUBSTITUTIONS)).isZero();
+        assertThat(collector.getCount(Metrics.LINES_READ)).isZero();
+        assertThat(collector.getCount(Metrics.REGEX_EVALUATIONS)).isZero();
+        assertThat(collector.getTimer(Metrics.FILE_REWRITE_TIME).getCount()).isZero();
+    }
+
+    @Test
+    void timerReportsPercentilesOfRecordedValues() {
+        InMemoryMetricsCollector collector = new InMemoryMetricsCollector();
+        collector.recordNanos(Metrics.REGEX_TIME, "a", 1500);
+        collector.recordNanos(Metrics.REGEX_TIME, "a", 3_000_000);
+
+        InMemoryMetricsCollector.TimerSnapshot snapshot = collector.getTimer(Metrics.REGEX_TIME);
+        assertThat(snapshot.getCount()).isEqualTo(2);
+        assertThat(snapshot.getP50Nanos()).isBetween(1500L, 2047L);
+        assertThat(snapshot.getMaxNanos()).isEqualTo(3_000_000);
+    }
+
+    private void updateFormAndSearch() throws IOException {
+        Files.writeString(root.resolve("form.json"),
+                "{\"name\": \"PLACEHOLDER_PATH\",\n\"key\": \"PLACEHOLDER_PATH\"}");
+        new TestDataClient()
+                .setRootPath(root.toString())
+                .setFolder("")
+                .setPath("form-key")
+                .updateFile("form.json", "metrics-" + root.getFileName() + ".json");
+        SearchText.searchTextByRegExp(List.of("first", "second"), "sec\\w+");
+    }
+}
@@ -0,0 +1,25 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import platform.qa.constants.Naming;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class NamingTest {
+
+    @Test
+    void keysKeepConventionsAndAreUnique() {
+        List<String> formKeys = IntStream.range(0, 100_000).parallel()
+                .mapToObj(i -> Naming.getFormKey())
+                .collect(Collectors.toList());
+
+        assertThat(formKeys).doesNotHaveDuplicates().allMatch(key -> key.matches("[A-Za-z]{10,}AUTO"));
+        assertThat(Naming.getProcessDefinitionKey()).matches("Process_[A-Za-z0-9]{10,}_AUTO");
+        assertThat(Naming.getDecisionDefinitionKey()).matches("AUTOValidationRule[A-Za-z0-9]{10,}");
+        assertThat(Naming.getTableName()).matches("auto_[a-z0-9]{10,}");
+    }
+}
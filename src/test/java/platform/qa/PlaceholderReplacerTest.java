@@ -0,0 +1,57 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import platform.qa.files.PlaceholderReplacer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PlaceholderReplacerTest {
+
+    @Test
+    void replaceLongestPlaceholderInSinglePass() {
+        Map<String, String> toReplace = new LinkedHashMap<>();
+        toReplace.put("PLACEHOLDER_FORM_KEY", "form");
+        toReplace.put("PLACEHOLDER_FORM_KEY_1", "first");
+        toReplace.put("PLACEHOLDER_ID", "PLACEHOLDER_FORM_KEY");
+
+        PlaceholderReplacer replacer = PlaceholderReplacer.of(toReplace);
+
+        assertThat(replacer.isLiteral()).isTrue();
+        assertThat(replacer.replace(
+                "<a id=\"PLACEHOLDER_ID\" key=\"PLACEHOLDER_FORM_KEY_1\" f=\"PLACEHOLDER_FORM_KEY\"/>"))
+                .isEqualTo("<a id=\"PLACEHOLDER_FORM_KEY\" key=\"first\" f=\"form\"/>");
+    }
+
+    @Test
+    void keepSameInstanceWhenNothingReplaced() {
+        PlaceholderReplacer replacer = PlaceholderReplacer.of(Map.of("PLACEHOLDER_ID", "id"));
+        String line = "no placeholders here, PLACEHOLDER_I";
+
+        assertThat(replacer.replace(line)).isSameAs(line);
+    }
+
+    @Test
+    void keepPlaceholderSplitBetweenChunks() {
+        PlaceholderReplacer replacer = PlaceholderReplacer.of(Map.of("PLACEHOLDER_NAME", "Назва"));
+        String text = "name=PLACEHOLDER_NAME;";
+        StringBuilder out = new StringBuilder();
+
+        int consumed = replacer.replace(text, 0, 12, out, false);
+        assertThat(consumed).isEqualTo(5);
+        consumed = replacer.replace(text, consumed, text.length(), out, true);
+
+        assertThat(consumed).isEqualTo(text.length());
+        assertThat(out.toString()).isEqualTo("name=Назва;");
+    }
+
+    @Test
+    void fallBackToRegexForPatterns() {
+        PlaceholderReplacer replacer = PlaceholderReplacer.of(Map.of("id=\\d+", "id=0"));
+
+        assertThat(replacer.isLiteral()).isFalse();
+        assertThat(replacer.replace("id=123 id=4")).isEqualTo("id=0 id=0");
+    }
+}
@@ -0,0 +1,61 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import platform.qa.files.RegulationIndex;
+import platform.qa.files.RegulationIndex.KeyType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RegulationIndexTest {
+
+    private static final String BPMN = "<bpmn:definitions xmlns:bpmn=\"http://www.omg.org/spec/BPMN/20100524/MODEL\""
+            + " xmlns:camunda=\"http://camunda.org/schema/1.0/bpmn\">"
+            + "<bpmn:process id=\"Process_main\" isExecutable=\"true\">"
+            + "<bpmn:startEvent id=\"start\" camunda:formKey=\"form-start\"/>"
+            + "<bpmn:userTask id=\"task\" camunda:formKey=\"form-missing\"/>"
+            + "<bpmn:userTask id=\"dynamic\" camunda:formKey=\"${formKey}\"/>"
+            + "<bpmn:businessRuleTask id=\"rule\" camunda:decisionRef=\"decision-check\"/>"
+            + "<bpmn:callActivity id=\"call\" calledElement=\"Process_sub\"/>"
+            + "</bpmn:process></bpmn:definitions>";
+
+    @TempDir
+    Path root;
+
+    @Test
+    void findUnresolvedAndDuplicateKeys() throws IOException {
+        Files.createDirectories(root.resolve("bpmn"));
+        Files.createDirectories(root.resolve("dmn"));
+        Files.createDirectories(root.resolve("forms/nested"));
+        Files.writeString(root.resolve("bpmn/main.bpmn"), BPMN);
+        Files.writeString(root.resolve("dmn/check.dmn"),
+                "<definitions xmlns=\"https://www.omg.org/spec/DMN/20191111/MODEL/\">"
+                        + "<decision id=\"decision-check\"><requiredDecision href=\"#decision-base\"/></decision>"
+                        + "</definitions>");
+        Files.writeString(root.resolve("forms/start.json"),
+                "{\"components\": [{\"name\": \"x\"}], \"name\": \"form-start\"}");
+        Files.writeString(root.resolve("forms/nested/copy.json"), "{\"name\": \"form-start\"}");
+
+        RegulationIndex index = RegulationIndex.build(root);
+
+        assertThat(index.isDefined(KeyType.PROCESS, "Process_main")).isTrue();
+        assertThat(index.isDefined(KeyType.FORM, "x")).isFalse();
+        assertThat(index.isUnresolved(KeyType.FORM, "form-start")).isFalse();
+        assertThat(index.isUnresolved(KeyType.FORM, "form-missing")).isTrue();
+        assertThat(index.isDuplicate(KeyType.FORM, "form-start")).isTrue();
+        assertThat(index.getDuplicateDefinitions(KeyType.FORM)).containsOnlyKeys("form-start");
+        assertThat(index.getReferences(KeyType.DECISION, "decision-check"))
+                .containsExactly(root.resolve("bpmn/main.bpmn"));
+        assertThat(index.getUnresolvedReferences())
+                .extracting(RegulationIndex.Entry::getType, RegulationIndex.Entry::getKey)
+                .containsExactlyInAnyOrder(
+                        tuple(KeyType.FORM, "form-missing"),
+                        tuple(KeyType.PROCESS, "Process_sub"),
+                        tuple(KeyType.DECISION, "decision-base"));
+    }
+}
@@ -1,10 +1,39 @@
 package platform.qa;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static platform.qa.files.SearchText.findAll;
+import static platform.qa.files.SearchText.searchTextByRegExp;
+import static platform.qa.files.SearchText.searchTextByRegExps;
+
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 class SearchTextTest {
 
     @Test
     void searchTextByRegExpPositiveCheck() {
+        assertThat(searchTextByRegExp("<bpmn:process id=\"Process_1\" name=\"Test\">",
+                "(?<=process id=\\\").+?(?=\\\")"))
+                .isEqualTo("Process_1");
+        assertThat(searchTextByRegExp("no process here", "(?<=process id=\\\").+?(?=\\\")")).isEmpty();
+    }
+
+    @Test
+    void searchSeveralPatternsLineByLine() {
+        List<String> lines = List.of("<bpmn:definitions>", "<bpmn:process id=\"Process_1\" name=\"Test\">",
+                "<bpmn:userTask camunda:formKey=\"form-one\">");
+
+        assertThat(searchTextByRegExps(lines, Map.of("id", "(?<=process id=\\\").+?(?=\\\")",
+                "formKey", "(?<=formKey=\\\").+?(?=\\\")",
+                "missing", "decisionRef")))
+                .containsEntry("id", "Process_1")
+                .containsEntry("formKey", "form-one")
+                .containsEntry("missing", "");
+    }
+
+    @Test
+    void findAllMatches() {
+        assertThat(findAll("formKey=\"a\" formKey=\"b\"", "(?<=formKey=\\\").+?(?=\\\")")).containsExactly("a", "b");
     }
-}
\ No newline at end of file
+}
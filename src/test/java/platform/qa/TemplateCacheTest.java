@@ -0,0 +1,65 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import platform.qa.files.CompiledTemplate;
+import platform.qa.files.TemplateCache;
+import platform.qa.files.TestDataClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TemplateCacheTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void renderCompiledTemplate() {
+        CompiledTemplate template = CompiledTemplate.compile("a=PLACEHOLDER_ID\nb=PLACEHOLDER_NAME, PLACEHOLDER_ID",
+                List.of("PLACEHOLDER_ID", "PLACEHOLDER_NAME"));
+
+        assertThat(template.getSlotCount()).isEqualTo(3);
+        assertThat(template.renderLines(Map.of("PLACEHOLDER_ID", "1")))
+                .containsExactly("a=1", "b=PLACEHOLDER_NAME, 1");
+    }
+
+    @Test
+    void renderLinesSplitsLikeRenderedContent() {
+        CompiledTemplate template = CompiledTemplate.compile("a=PLACEHOLDER_ID\nb=PLACEHOLDER_NAME\r\n\n",
+                List.of("PLACEHOLDER_ID", "PLACEHOLDER_NAME"));
+        Map<String, String> values = Map.of("PLACEHOLDER_ID", "1\r", "PLACEHOLDER_NAME", "\r");
+
+        assertThat(template.renderLines(values))
+                .isEqualTo(template.render(values).lines().collect(Collectors.toList()))
+                .containsExactly("a=1", "b=", "", "");
+    }
+
+    @Test
+    void reuseTemplateUntilFileChanges() throws IOException {
+        Path file = Files.writeString(root.resolve("form.json"), "{\"name\": \"PLACEHOLDER_PATH\"}");
+        TemplateCache cache = new TemplateCache(1);
+        TestDataClient client = new TestDataClient()
+                .setRootPath(root.toString())
+                .setFolder("")
+                .setTemplateCache(cache);
+
+        client.setPath("first").readUpdatedFile("form.json");
+        assertThat(client.setPath("second").readUpdatedFile("form.json")).containsExactly("{\"name\": \"second\"}");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+
+        Files.writeString(file, "{\"title\": \"PLACEHOLDER_PATH\", \"changed\": true}");
+        assertThat(client.readUpdatedFile("form.json")).containsExactly("{\"title\": \"second\", \"changed\": true}");
+        assertThat(cache.getMissCount()).isEqualTo(2);
+
+        client.setId("id").readUpdatedFile("form.json");
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,181 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.as;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.STRING;
+
+import platform.qa.files.ConcurrentTestDataClient;
+import platform.qa.files.FileUpdateResult;
+import platform.qa.files.TestDataClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestDataClientTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void streamingUpdateReplacesPlaceholdersAcrossChunks() throws IOException {
+        String chunk = StringUtils.repeat("<task name=\"PLACEHOLDER_NAME\" id=\"PLACEHOLDER_ID\"/>\r\n", 5000);
+        Files.writeString(root.resolve("process.bpmn"), chunk, StandardCharsets.UTF_8);
+
+        TestDataClient client = new TestDataClient()
+                .setRootPath(root.toString())
+                .setFolder("")
+                .setId("Process_1")
+                .setName("Процес")
+                .setStreaming(true);
+        String outputFile = client.updateFile("process.bpmn", "streamed-process.bpmn");
+
+        assertThat(client.getOutputContent()).isNull();
+        assertThat(Files.readString(Path.of("target", outputFile), StandardCharsets.UTF_8))
+                .isEqualTo(StringUtils.repeat("<task name=\"Процес\" id=\"Process_1\"/>\r\n", 5000));
+    }
+
+    @Test
+    void parallelUpdateReturnsResultsInSourceOrder() throws IOException {
+        Files.createDirectories(root.resolve("forms/nested"));
+        Files.writeString(root.resolve("forms/b.json"), "{\"name\": \"PLACEHOLDER_PATH\"}");
+        Files.writeString(root.resolve("forms/a.json"), "{\"name\": \"PLACEHOLDER_PATH\"}");
+        Files.writeString(root.resolve("forms/nested/a.json"), "{\"name\": \"PLACEHOLDER_PATH\"}");
+
+        TestDataClient client = new TestDataClient()
+                .setRootPath(root.toString())
+                .setFolder("")
+                .setPath("form-key");
+        List<FileUpdateResult> results = client.updateFilesInParallel("forms", true);
+
+        assertThat(results).extracting(FileUpdateResult::getSourceFile)
+                .containsExactly("a.json", "b.json", "nested/a.json");
+        assertThat(client.getPaths()).containsOnlyKeys("a.json", "b.json", "nested/a.json");
+        assertThat(results).extracting(FileUpdateResult::getOutputFile).doesNotHaveDuplicates();
+        for (FileUpdateResult result : results) {
+            assertThat(Path.of("target", result.getOutputFile())).hasContent("{\"name\": \"form-key\"}");
+        }
+    }
+
+    @Test
+    void concurrentClientIsSharedBetweenThreads() throws IOException {
+        Files.writeString(root.resolve("form.json"),
+                "{\"name\": \"PLACEHOLDER_PATH\", \"title\": \"PLACEHOLDER_NAME\"}");
+
+        ConcurrentTestDataClient client = new TestDataClient()
+                .setRootPath(root.toString())
+                .setFolder("")
+                .setName("Форма")
+                .toConcurrentClient()
+                .toBuilder()
+                .path("any")
+                .build();
+        List<List<String>> contents = IntStream.range(0, 200).parallel()
+                .mapToObj(i -> client.readUpdatedFile("form.json"))
+                .collect(Collectors.toList());
+
+        assertThat(contents).allSatisfy(content -> assertThat(content).singleElement(as(STRING))
+                .contains("\"title\": \"Форма\"")
+                .doesNotContain("PLACEHOLDER"));
+        assertThat(contents).extracting(content -> content.get(0)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void incrementalUpdateReusesUnchangedOutput() throws IOException, InterruptedException {
+        Files.writeString(root.resolve("decision.dmn"), "<decision id=\"PLACEHOLDER_DMN_KEY\"/>");
+        String outputFile = "incremental-" + root.getFileName() + ".dmn";
+        Path target = Path.of("target", outputFile);
+
+        TestDataClient client = new TestDataClient()
+                .setRootPath(root.toString())
+                .setFolder("")
+                .setDmnKey("decision_1")
+                .setIncremental(true);
+        client.updateFile("decision.dmn", outputFile);
+        FileTime generated = Files.getLastModifiedTime(target);
+        Thread.sleep(50);
+        client.updateFile("decision.dmn", outputFile);
+
+        assertThat(Files.getLastModifiedTime(target)).isEqualTo(generated);
+        assertThat(client.getOutputContent()).containsExactly("<decision id=\"decision_1\"/>");
+
+        Files.writeString(target, "changed");
+        client.updateFile("decision.dmn", outputFile);
+        assertThat(target).hasContent("<decision id=\"decision_1\"/>");
+
+        client.setDmnKey("decision_2").updateFile("decision.dmn", outputFile);
+        assertThat(target).hasContent("<decision id=\"decision_2\"/>");
+
+        String randomOutputFile = client.updateFile("decision.dmn");
+        assertThat(Path.of("target", ".regeneration-manifest.properties")).content()
+                .contains(outputFile)
+                .doesNotContain(randomOutputFile);
+    }
+
+    @Test
+    void resultKeepsAllPlaceholderValuesAndReadsContentOnDemand() throws IOException {
+        for (String fileName : List.of("form.json", "form-2.json", "form-3.json")) {
+            Files.writeString(root.resolve(fileName),
+                    "{\"name\": \"PLACEHOLDER_NAME\", \"path\": \"PLACEHOLDER_PATH\"}");
+        }
+
+        TestDataClient client = new TestDataClient()
+                .setRootPath(root.toString())
+                .setFolder("")
+                .setName("Форма")
+                .setPaths("any")
+                .setKeepOutputContent(false)
+                .setMaxTrackedFiles(2);
+        FileUpdateResult result = client.updateFileWithResult("form.json", "result-form.json");
+        client.updateFile("form-2.json", "result-form-2.json");
+        client.readUpdatedFile("form-3.json");
+        client.updateFile("form-3.json", "result-form-3.json");
+
+        assertThat(client.getOutputContent()).isNull();
+        assertThat(client.getIds()).containsOnlyKeys("form-2.json", "form-3.json");
+        assertThat(client.getPaths()).containsOnlyKeys("form-2.json", "form-3.json");
+        assertThat(client.getValues("form.json")).isEmpty();
+        assertThat(client.getValues("form-3.json")).containsOnlyKeys("PLACEHOLDER_NAME", "PLACEHOLDER_PATH")
+                .containsEntry("PLACEHOLDER_NAME", "Форма")
+                .containsEntry("PLACEHOLDER_PATH", client.getLastResult().getValue("PLACEHOLDER_PATH"));
+        assertThat(result.getValues()).containsOnlyKeys("PLACEHOLDER_NAME", "PLACEHOLDER_PATH")
+                .containsEntry("PLACEHOLDER_NAME", "Форма");
+        assertThat(result.getContent()).containsExactly(
+                "{\"name\": \"Форма\", \"path\": \"" + result.getValue("PLACEHOLDER_PATH") + "\"}");
+        assertThat(client.getLastResult().getOutputFile()).isEqualTo("result-form-3.json");
+    }
+
+    @Test
+    void asyncUpdateUsesSettingsAtCallTime() throws IOException {
+        Files.writeString(root.resolve("process.bpmn"), "<process id=\"PLACEHOLDER_ID\"/>");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            TestDataClient client = new TestDataClient()
+                    .setRootPath(root.toString())
+                    .setFolder("")
+                    .setExecutor(executor)
+                    .setId("Process_1");
+            CompletableFuture<FileUpdateResult> first = client.updateFileAsync("process.bpmn", "async-1.bpmn");
+            CompletableFuture<String> copied = client.setId("Process_2")
+                    .updateFileAsync("process.bpmn", "async-2.bpmn")
+                    .thenCompose(result -> client.copyFileAsync("target", result.getOutputFile()));
+
+            assertThat(first.join().getContent()).containsExactly("<process id=\"Process_1\"/>");
+            assertThat(Path.of("target", copied.join())).hasContent("<process id=\"Process_2\"/>");
+            assertThat(client.getIds()).containsKey("process.bpmn");
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
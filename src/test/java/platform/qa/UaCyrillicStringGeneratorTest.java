@@ -0,0 +1,48 @@
+package platform.qa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import platform.qa.files.UaCyrillicStringGenerator;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class UaCyrillicStringGeneratorTest {
+
+    private static final String ALPHABET = "[абвгдеєжзиіїйклмнопрстуфхцчшщьюя]";
+
+    @Test
+    void stringsUseAlphabetAndLengthRange() {
+        assertThat(UaCyrillicStringGenerator.generate(12)).matches(ALPHABET + "{12}");
+        assertThat(UaCyrillicStringGenerator.generate(1000, 3, 5))
+                .hasSize(1000)
+                .allMatch(string -> string.matches(ALPHABET + "{3,5}"))
+                .extracting(String::length)
+                .contains(3, 4, 5);
+        assertThat(UaCyrillicStringGenerator.stream(0, 2).parallel().limit(1000).collect(Collectors.toList()))
+                .hasSize(1000)
+                .allMatch(string -> string.matches(ALPHABET + "{0,2}"));
+        assertThatThrownBy(() -> UaCyrillicStringGenerator.generate(1, 5, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sameSeedReproducesSequence() {
+        UaCyrillicStringGenerator first = UaCyrillicStringGenerator.withSeed(42);
+        UaCyrillicStringGenerator second = UaCyrillicStringGenerator.withSeed(42);
+
+        assertThat(first.next(8)).isEqualTo(second.next(8)).matches(ALPHABET + "{8}");
+        assertThat(first.next(2, 6)).isEqualTo(second.next(2, 6));
+
+        List<String> sequential = UaCyrillicStringGenerator.withSeed(7).sequence(1, 10)
+                .limit(500)
+                .collect(Collectors.toList());
+        List<String> parallel = UaCyrillicStringGenerator.withSeed(7).sequence(1, 10)
+                .parallel()
+                .limit(500)
+                .collect(Collectors.toList());
+        assertThat(parallel).isEqualTo(sequential).allMatch(string -> string.matches(ALPHABET + "{1,10}"));
+    }
+}